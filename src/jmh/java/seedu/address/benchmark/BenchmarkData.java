@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Generates the address books used by benchmarks with {@link AddressBookGenerator}.
+ * The same arguments always generate the same persons.
+ */
+final class BenchmarkData {
+
+    /** Number of distinct tags that generated persons draw their tags from. */
+    static final int TAG_POOL_SIZE = 64;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} distinct persons with {@code tagsPerPerson} tags each, drawn uniformly.
+     */
+    static List<Person> persons(int count, int tagsPerPerson) {
+        return generator(count, tagsPerPerson).generatePersons();
+    }
+
+    /**
+     * Returns an address book of {@code count} persons with {@code tagsPerPerson} tags each, drawn uniformly.
+     */
+    static AddressBook addressBook(int count, int tagsPerPerson) {
+        return generator(count, tagsPerPerson).generate();
+    }
+
+    /**
+     * Returns the tags that generated persons draw their tags from.
+     */
+    static List<Tag> tags() {
+        return new AddressBookGenerator(0).withTagCount(TAG_POOL_SIZE).getTags();
+    }
+
+    private static AddressBookGenerator generator(int count, int tagsPerPerson) {
+        return new AddressBookGenerator(count)
+                .withTagCount(TAG_POOL_SIZE)
+                .withTagsPerPerson(tagsPerPerson, tagsPerPerson)
+                .withSkew(0);
+    }
+}
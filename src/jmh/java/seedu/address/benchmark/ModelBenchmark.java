@@ -0,0 +1,125 @@
+package seedu.address.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ClientMatchesPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.FeatureHistogram;
+import seedu.address.model.tag.FeatureStats;
+import seedu.address.model.tag.FeatureTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the model operations whose cost grows with the size of the address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int bookSize;
+
+    @Param({"1", "5"})
+    private int tagsPerPerson;
+
+    private UniquePersonList personList;
+    private Person extraPerson;
+    private ModelManager model;
+    private ClientMatchesPredicate predicate;
+    private AddressBook addressBook;
+    private Map<FeatureTag, List<Tag>> bizTags;
+
+    /**
+     * Builds a person list and a model of {@code bookSize} persons, and one more person not in them.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.persons(bookSize + 1, tagsPerPerson);
+        extraPerson = persons.remove(bookSize);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        model = new ModelManager(BenchmarkData.addressBook(bookSize, tagsPerPerson), new UserPrefs());
+        predicate = new ClientMatchesPredicate(List.of("yeoh", "8000"));
+        addressBook = BenchmarkData.addressBook(bookSize, tagsPerPerson);
+        List<Tag> tags = BenchmarkData.tags();
+        bizTags = new LinkedHashMap<>();
+        bizTags.put(new FeatureTag("Plan"), tags.subList(0, 8));
+        bizTags.put(new FeatureTag("Region"), tags.subList(8, 16));
+    }
+
+    /**
+     * Adds a person to the list and removes it again, so that the list keeps its size.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemovePerson() {
+        personList.add(extraPerson);
+        personList.remove(extraPerson);
+        return personList;
+    }
+
+    /**
+     * Recounts the persons in every active tag folder.
+     */
+    @Benchmark
+    public ModelManager refreshActiveTagFolderCounts() {
+        model.refreshActiveTagFolderCounts();
+        return model;
+    }
+
+    /**
+     * Counts the persons having each tag of two declared features in one pass over the person list.
+     */
+    @Benchmark
+    public List<FeatureStats> countFeatureStatsInOnePass() {
+        return FeatureHistogram.count(bizTags, addressBook.getPersonList());
+    }
+
+    /**
+     * Reads the number of persons having each tag of two declared features from the tag index.
+     */
+    @Benchmark
+    public List<FeatureStats> countFeatureStatsFromTagIndex() {
+        return FeatureStats.of(bizTags, tag -> addressBook.countPersonsWithAllTags(List.of(tag.tagName)),
+                addressBook.getSize());
+    }
+
+    /**
+     * Tests every person against a search predicate directly, without the search index.
+     */
+    @Benchmark
+    public long scanWithClientMatchesPredicate() {
+        return model.getAddressBook().getPersonList().stream().filter(predicate).count();
+    }
+
+    /**
+     * Filters the model's person list with a search predicate, which uses the search index.
+     */
+    @Benchmark
+    public int filterWithClientMatchesPredicate() {
+        model.updateFilteredPersonList(predicate);
+        return model.getFilteredPersonList().size();
+    }
+}
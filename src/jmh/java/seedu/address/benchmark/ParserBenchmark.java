@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures tokenizing the arguments of an add command, as done on every keystroke of the live preview.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({"1", "5", "15"})
+    private int tagsPerPerson;
+
+    private String arguments;
+
+    /**
+     * Builds the arguments of an add command for a generated person with {@code tagsPerPerson} tags.
+     */
+    @Setup
+    public void setUp() {
+        Person person = BenchmarkData.persons(1, tagsPerPerson).get(0);
+        StringBuilder builder = new StringBuilder()
+                .append(' ').append(PREFIX_NAME).append(person.getName())
+                .append(' ').append(PREFIX_PHONE).append(person.getPhone())
+                .append(' ').append(PREFIX_EMAIL).append(person.getEmail())
+                .append(' ').append(PREFIX_ADDRESS).append(person.getAddress());
+        for (Tag tag : person.getTags()) {
+            builder.append(' ').append(PREFIX_TAG).append(tag.tagName);
+        }
+        arguments = builder.toString();
+    }
+
+    /**
+     * Tokenizes the arguments with the prefixes of an add command.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures reading and writing whole address books in the JSON and binary formats.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int bookSize;
+
+    @Param({"1", "5"})
+    private int tagsPerPerson;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Generates the address book and saves it in both formats, so that the read benchmarks have data to read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        addressBook = BenchmarkData.addressBook(bookSize, tagsPerPerson);
+        Path jsonFile = folder.resolve("addressbook.json");
+        jsonStorage = new JsonAddressBookStorage(jsonFile);
+        binaryStorage = new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFile), jsonFile);
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jsonStorage.getAddressBookFilePath());
+        Files.deleteIfExists(binaryStorage.getAddressBookFilePath());
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void writeJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Reads the binary file and decodes every person, as the model does when it copies the book.
+     */
+    @Benchmark
+    public AddressBook readBinary() throws DataLoadingException {
+        return new AddressBook(binaryStorage.readAddressBook().get());
+    }
+}
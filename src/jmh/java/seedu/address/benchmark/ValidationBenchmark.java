@@ -0,0 +1,115 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.ValidationConstants;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the cost of validating a single field value.
+ * Each {@code legacy...} benchmark repeats the former {@code String.matches} based check of a field, so it can be
+ * compared with the current validator of that field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private String name = "Alice Pauline O'Brien-Smith";
+    private String phone = "94351253";
+    private String email = "alice.pauline@example-domain.com";
+    private String address = "123, Jurong West Ave 6, #08-111";
+    private String tagName = "owes-money";
+
+    @Benchmark
+    public boolean name() {
+        return Name.isValidName(name);
+    }
+
+    /**
+     * The former implementation of {@link Name#isValidName(String)}.
+     */
+    @Benchmark
+    public boolean legacyName() {
+        return name.length() <= Name.MAX_LENGTH
+                && name.matches(ValidationConstants.PRINTABLE_ASCII_REGEX)
+                && name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phone() {
+        return Phone.isValidPhone(phone);
+    }
+
+    /**
+     * The former implementation of {@link Phone#isValidPhone(String)}.
+     */
+    @Benchmark
+    public boolean legacyPhone() {
+        return phone.matches(ValidationConstants.PRINTABLE_ASCII_REGEX)
+                && phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean email() {
+        return Email.isValidEmail(email);
+    }
+
+    /**
+     * The former implementation of {@link Email#isValidEmail(String)}.
+     */
+    @Benchmark
+    public boolean legacyEmail() {
+        return email.length() <= Email.MAX_LENGTH
+                && email.matches(ValidationConstants.PRINTABLE_ASCII_REGEX)
+                && email.matches(Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean address() {
+        return Address.isValidAddress(address);
+    }
+
+    /**
+     * The former implementation of {@link Address#isValidAddress(String)}.
+     */
+    @Benchmark
+    public boolean legacyAddress() {
+        return address.length() <= Address.MAX_LENGTH
+                && address.matches(ValidationConstants.PRINTABLE_ASCII_REGEX)
+                && address.matches(Address.VALIDATION_REGEX)
+                && !address.endsWith(" ");
+    }
+
+    @Benchmark
+    public boolean tag() {
+        return Tag.isValidTagName(tagName);
+    }
+
+    /**
+     * The former implementation of {@link Tag#isValidTagName(String)}.
+     */
+    @Benchmark
+    public boolean legacyTag() {
+        return tagName.length() <= Tag.MAX_LENGTH
+                && tagName.matches(Tag.VALIDATION_REGEX)
+                && tagName.matches(ValidationConstants.PRINTABLE_ASCII_REGEX);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ReplayHarness;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.AddressBookGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindSaver;
+
+/**
+ * Command line entry point for load testing the app without its GUI.
+ *
+ * <pre>
+ * generate FILE SIZE [TAG_COUNT] [SKEW] [SEED]
+ *     writes a generated address book of SIZE persons to FILE, in the JSON data file format
+ * replay SIZE COMMANDS [TAG_COUNT] [SKEW] [SEED]
+ *     generates an address book of SIZE persons, executes COMMANDS generated commands against it and prints the
+ *     throughput and latency; data is saved to a temporary folder that is deleted afterwards
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final String USAGE = "Usage:\n"
+            + "  generate FILE SIZE [TAG_COUNT] [SKEW] [SEED]\n"
+            + "  replay SIZE COMMANDS [TAG_COUNT] [SKEW] [SEED]";
+
+    /**
+     * Runs the load test command given by {@code args}.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        if (args.length >= 3 && args[0].equals("generate")) {
+            AddressBookGenerator generator = toGenerator(args, 2);
+            Path file = Paths.get(args[1]);
+            new JsonAddressBookStorage(file).saveAddressBook(generator.generate());
+            System.out.println("Wrote " + args[2] + " persons to " + file);
+        } else if (args.length >= 3 && args[0].equals("replay")) {
+            System.out.println(replay(toGenerator(args, 1), Integer.parseInt(args[2])));
+        } else {
+            System.out.println(USAGE);
+        }
+    }
+
+    /**
+     * Returns a generator configured by the size at {@code args[sizeIndex]} and the optional tag count, skew and
+     * seed at {@code args[sizeIndex + 2]} onwards.
+     */
+    private static AddressBookGenerator toGenerator(String[] args, int sizeIndex) {
+        AddressBookGenerator generator = new AddressBookGenerator(Integer.parseInt(args[sizeIndex]));
+        if (args.length > sizeIndex + 2) {
+            generator.withTagCount(Integer.parseInt(args[sizeIndex + 2]));
+        }
+        if (args.length > sizeIndex + 3) {
+            generator.withSkew(Double.parseDouble(args[sizeIndex + 3]));
+        }
+        if (args.length > sizeIndex + 4) {
+            generator.withSeed(Long.parseLong(args[sizeIndex + 4]));
+        }
+        return generator;
+    }
+
+    private static ReplayHarness.Report replay(AddressBookGenerator generator, int commandCount) throws IOException {
+        Path folder = Files.createTempDirectory("loadtest");
+        Path dataFile = folder.resolve("addressbook.json");
+        Path prefsFile = folder.resolve("preferences.json");
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(dataFile), new JsonUserPrefsStorage(prefsFile));
+        WriteBehindSaver saver = WriteBehindSaver.background(storage, WriteBehindSaver.DEFAULT_DELAY_MILLIS);
+        try {
+            AddressBook addressBook = generator.generate();
+            ModelManager model = new ModelManager(addressBook, new UserPrefs());
+            List<String> script = ReplayHarness.generateScript(generator, addressBook, commandCount, 0);
+            return new ReplayHarness(new LogicManager(model, storage, saver)).run(script);
+        } finally {
+            saver.close();
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(prefsFile);
+            Files.deleteIfExists(folder);
+        }
+    }
+}
@@ -10,6 +10,8 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.MetricsDumper;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
@@ -23,11 +25,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,6 +48,8 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindSaver saver;
+    protected MetricsDumper metricsDumper; // null if metrics are not dumped
     protected Model model;
     protected Config config;
 
@@ -57,16 +64,39 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = WriteBehindSaver.background(storage, WriteBehindSaver.DEFAULT_DELAY_MILLIS);
+        logic = new LogicManager(model, storage, saver);
+
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            metricsDumper = MetricsDumper.start(CommandMetrics.getGlobal(), config.getMetricsFilePath(),
+                    config.getMetricsDumpIntervalSeconds());
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, in the format chosen in
+     * {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (config.getAddressBookStorageFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.toBinaryFilePath(addressBookFilePath), addressBookFilePath);
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,10 +207,24 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Ethical Insurance ] =============================");
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        // runs even if the last save failed, as it may then be the only up-to-date copy of the data
+        try {
+            storage.saveOnExit(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to export data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (metricsDumper != null) {
+            metricsDumper.close();
+        }
     }
 }
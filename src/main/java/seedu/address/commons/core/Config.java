@@ -17,6 +17,21 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageFormat addressBookStorageFormat = StorageFormat.JSON;
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpIntervalSeconds = 0; // off by default; seconds between dumps of the metrics file
+
+    /**
+     * Formats in which the address book data file can be stored.
+     */
+    public enum StorageFormat {
+        /** A single JSON file, rewritten on every save. */
+        JSON,
+        /** A JSON snapshot plus an append-only journal of the changes made since. */
+        JOURNAL,
+        /** A compact binary file, imported from the JSON file if it is missing and exported to it on exit. */
+        BINARY
+    }
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +49,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(StorageFormat addressBookStorageFormat) {
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +86,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(addressBookStorageFormat, otherConfig.addressBookStorageFormat)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsDumpIntervalSeconds == otherConfig.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookStorageFormat, metricsFilePath,
+                metricsDumpIntervalSeconds);
     }
 
     @Override
@@ -60,6 +103,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookStorageFormat", addressBookStorageFormat)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsDumpIntervalSeconds", metricsDumpIntervalSeconds)
                 .toString();
     }
 
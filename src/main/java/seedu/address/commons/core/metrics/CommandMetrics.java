@@ -0,0 +1,262 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency and allocation metrics of the commands executed, kept separately for each command word.
+ *
+ * The latency of each {@link Phase} of a command is recorded in its own {@link Histogram}, as is the number of bytes
+ * the executing thread allocated for the whole command. Recording never locks, so it can be left on at all times.
+ *
+ * Tag folder counts are refreshed from inside the model while a command executes. The model brackets that work with
+ * {@link #beginFolderRefresh()} and {@link #endFolderRefresh()}, and its time is recorded as the
+ * {@link Phase#FOLDER_REFRESH} phase instead of as part of {@link Phase#EXECUTE}.
+ */
+public class CommandMetrics {
+
+    /** Command word that commands which could not be parsed are recorded under. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    private static final CommandMetrics GLOBAL = new CommandMetrics();
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = allocationTrackingBean();
+
+    private static final ThreadLocal<FolderRefreshClock> folderRefreshClock =
+            ThreadLocal.withInitial(FolderRefreshClock::new);
+
+    private final Map<String, Stats> statsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * The phases of executing a command.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        FOLDER_REFRESH("folder refresh"),
+        SAVE("save");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Returns the metrics shared by the whole app.
+     */
+    public static CommandMetrics getGlobal() {
+        return GLOBAL;
+    }
+
+    /**
+     * Records that the {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void recordLatency(String commandWord, Phase phase, long nanos) {
+        statsOf(commandWord).latencies.get(phase).record(nanos);
+    }
+
+    /**
+     * Records that a command with {@code commandWord} allocated {@code bytes} bytes.
+     */
+    public void recordAllocation(String commandWord, long bytes) {
+        statsOf(commandWord).allocations.record(bytes);
+    }
+
+    /**
+     * Returns the latencies of the {@code phase} of the commands with {@code commandWord}, in nanoseconds.
+     * The histogram is empty if no such command was recorded.
+     */
+    public Histogram getLatencies(String commandWord, Phase phase) {
+        Stats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new Histogram() : stats.latencies.get(phase);
+    }
+
+    /**
+     * Returns the bytes allocated by each of the commands with {@code commandWord}.
+     * The histogram is empty if no such command was recorded.
+     */
+    public Histogram getAllocations(String commandWord) {
+        Stats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new Histogram() : stats.allocations;
+    }
+
+    /**
+     * Starts timing a command, on the thread that will execute it.
+     */
+    public Sample startSample() {
+        return new Sample();
+    }
+
+    /**
+     * Returns a summary of the metrics of every command word recorded, in alphabetical order.
+     */
+    public String format() {
+        if (statsByCommandWord.isEmpty()) {
+            return "No commands recorded yet.";
+        }
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(statsByCommandWord).entrySet()) {
+            Stats stats = entry.getValue();
+            summary.append(entry.getKey()).append(" (")
+                    .append(stats.latencies.get(Phase.PARSE).getCount()).append(" commands)\n");
+            for (Phase phase : Phase.values()) {
+                Histogram latencies = stats.latencies.get(phase);
+                if (latencies.getCount() > 0) {
+                    summary.append(String.format("  %-14s p50 %.3fms, p99 %.3fms, max %.3fms\n", phase,
+                            latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+                            latencies.getMax() / 1e6));
+                }
+            }
+            if (stats.allocations.getCount() > 0) {
+                summary.append(String.format("  %-14s p50 %.1fKB, p99 %.1fKB, max %.1fKB\n", "allocated",
+                        stats.allocations.getValueAtPercentile(50) / 1024.0,
+                        stats.allocations.getValueAtPercentile(99) / 1024.0, stats.allocations.getMax() / 1024.0));
+            }
+        }
+        return summary.toString();
+    }
+
+    private Stats statsOf(String commandWord) {
+        requireNonNull(commandWord);
+        Stats stats = statsByCommandWord.get(commandWord);
+        return stats != null ? stats : statsByCommandWord.computeIfAbsent(commandWord, unused -> new Stats());
+    }
+
+    /**
+     * Marks the start of a tag folder refresh on the current thread. Refreshes may nest; only the outermost one is
+     * timed. Must be followed by {@link #endFolderRefresh()} on the same thread.
+     */
+    public static void beginFolderRefresh() {
+        FolderRefreshClock clock = folderRefreshClock.get();
+        if (clock.depth++ == 0) {
+            clock.start = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the end of a tag folder refresh started by {@link #beginFolderRefresh()}.
+     */
+    public static void endFolderRefresh() {
+        FolderRefreshClock clock = folderRefreshClock.get();
+        if (--clock.depth == 0) {
+            clock.elapsed += System.nanoTime() - clock.start;
+        }
+    }
+
+    /**
+     * Returns the time spent refreshing tag folders on the current thread since the last call, in nanoseconds.
+     */
+    static long takeFolderRefreshNanos() {
+        FolderRefreshClock clock = folderRefreshClock.get();
+        long elapsed = clock.elapsed;
+        clock.elapsed = 0;
+        return elapsed;
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or -1 if the JVM cannot tell.
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+
+    /**
+     * The measurements of a single command, taken phase by phase on the thread executing it.
+     * A sample starts in the {@link Phase#PARSE} phase.
+     */
+    public class Sample {
+        private final long allocatedAtStart;
+        private String commandWord = INVALID_COMMAND_WORD;
+        private Phase phase = Phase.PARSE;
+        private long phaseStart;
+
+        private Sample() {
+            takeFolderRefreshNanos(); // refreshes made outside commands are not attributed to this one
+            allocatedAtStart = currentThreadAllocatedBytes();
+            phaseStart = System.nanoTime();
+        }
+
+        /**
+         * Sets the command word to record the measurements under, once the command has been parsed.
+         */
+        public void setCommandWord(String commandWord) {
+            this.commandWord = requireNonNull(commandWord);
+        }
+
+        /**
+         * Ends the current phase and starts {@code next}.
+         */
+        public void startPhase(Phase next) {
+            endPhase();
+            phase = next;
+        }
+
+        /**
+         * Ends the current phase and records the bytes allocated since the command started.
+         * Call once the command has completed or failed.
+         */
+        public void finish() {
+            endPhase();
+            if (allocatedAtStart >= 0) {
+                recordAllocation(commandWord, currentThreadAllocatedBytes() - allocatedAtStart);
+            }
+        }
+
+        /**
+         * Records the time since the current phase started. The time spent refreshing tag folders during
+         * {@link Phase#EXECUTE} is recorded as {@link Phase#FOLDER_REFRESH} instead.
+         */
+        private void endPhase() {
+            long now = System.nanoTime();
+            long elapsed = now - phaseStart;
+            phaseStart = now;
+            if (phase == Phase.EXECUTE) {
+                long refreshNanos = takeFolderRefreshNanos();
+                recordLatency(commandWord, Phase.FOLDER_REFRESH, refreshNanos);
+                elapsed -= refreshNanos;
+            }
+            recordLatency(commandWord, phase, elapsed);
+        }
+    }
+
+    private static class Stats {
+        private final Map<Phase, Histogram> latencies = new EnumMap<>(Phase.class);
+        private final Histogram allocations = new Histogram();
+
+        Stats() {
+            for (Phase phase : Phase.values()) {
+                latencies.put(phase, new Histogram());
+            }
+        }
+    }
+
+    private static class FolderRefreshClock {
+        private int depth;
+        private long start;
+        private long elapsed;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative {@code long} values, such as latencies in nanoseconds or sizes in bytes, that can be
+ * recorded to from any number of threads without locking.
+ *
+ * Values are counted in log-linear buckets, as in HdrHistogram: each power of two is split into
+ * {@value #SUB_BUCKETS_PER_POWER} buckets of equal width, so a value is known to within about 6% of itself while the
+ * histogram stays a fixed size whatever the range of values. Values of {@value #MAX_TRACKABLE_BITS} bits or more
+ * are counted as the largest trackable value.
+ *
+ * Reads are not atomic with concurrent writes, so a read taken while values are being recorded may miss some of them.
+ */
+public class Histogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS_PER_POWER = 1 << SUB_BUCKET_BITS;
+    static final int MAX_TRACKABLE_BITS = 48;
+
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_TRACKABLE_BITS) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one occurrence of {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexOf(clamped));
+        total.add(clamped);
+        if (clamped > max.get()) {
+            max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the values recorded, or 0 if there are none.
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * Returns a value that {@code percentile} percent of the values recorded do not exceed, or 0 if there are none.
+     * The value returned is the upper end of the bucket of the exact percentile, capped at the largest value.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the index of the bucket counting {@code value}.
+     * Values below {@code 2 * SUB_BUCKETS_PER_POWER} have a bucket each; above that, the bucket is given by the
+     * position of the highest set bit and the {@code SUB_BUCKET_BITS} bits that follow it.
+     */
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS_PER_POWER) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS_PER_POWER + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the largest value counted by the bucket at {@code index}.
+     */
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS_PER_POWER) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS_PER_POWER - 1;
+        long top = index % SUB_BUCKETS_PER_POWER + SUB_BUCKETS_PER_POWER;
+        return ((top + 1) << shift) - 1;
+    }
+}
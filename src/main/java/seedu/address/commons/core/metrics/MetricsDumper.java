@@ -0,0 +1,67 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Periodically writes a summary of {@link CommandMetrics} to a file on a background thread, replacing the previous
+ * summary, so that the metrics of a running app can be inspected without interacting with it.
+ */
+public class MetricsDumper {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsDumper.class);
+
+    private final CommandMetrics metrics;
+    private final Path filePath;
+    private final ScheduledExecutorService executor;
+
+    private MetricsDumper(CommandMetrics metrics, Path filePath) {
+        this.metrics = requireNonNull(metrics);
+        this.filePath = requireNonNull(filePath);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns a dumper that writes {@code metrics} to {@code filePath} every {@code periodSeconds} seconds.
+     */
+    public static MetricsDumper start(CommandMetrics metrics, Path filePath, long periodSeconds) {
+        MetricsDumper dumper = new MetricsDumper(metrics, filePath);
+        dumper.executor.scheduleAtFixedRate(dumper::dump, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+        return dumper;
+    }
+
+    /**
+     * Writes the current metrics to the file now.
+     */
+    public void dump() {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, "Command metrics at " + LocalDateTime.now() + "\n\n" + metrics.format());
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Stops the periodic dumps and writes the metrics one last time.
+     */
+    public void close() {
+        executor.shutdownNow();
+        dump();
+    }
+}
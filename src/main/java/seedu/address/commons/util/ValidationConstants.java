@@ -2,11 +2,46 @@ package seedu.address.commons.util;
 
 /**
  * Global validation constants for regex and other reusable values.
+ * The {@code is...} methods check the same character classes as the regexes without compiling or running a
+ * {@code Pattern}, for use on hot paths such as bulk loading and live previews.
  */
 public class ValidationConstants {
     /**
      * Regex for printable ASCII characters (space to ~).
      */
     public static final String PRINTABLE_ASCII_REGEX = "[\\x20-\\x7E]*";
-}
 
+    /**
+     * Returns true if every character of {@code test} is printable ASCII, i.e. matches {@link #PRINTABLE_ASCII_REGEX}.
+     */
+    public static boolean isPrintableAscii(String test) {
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+}
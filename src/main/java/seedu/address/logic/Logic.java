@@ -9,6 +9,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.tag.TagFolder;
 
 /**
@@ -31,6 +32,14 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns true if a person with the given {@code identity} exists in the address book.
+     * May be called from any thread.
+     *
+     * @see seedu.address.model.Model#hasPersonWithIdentity(PersonIdentity)
+     */
+    boolean hasPersonWithIdentity(PersonIdentity identity);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.ValidationConstants.isAsciiLetter;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
@@ -9,6 +11,8 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,8 +21,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.tag.TagFolder;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -29,18 +35,45 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final WriteBehindSaver saver;
+    private final CommandMetrics metrics;
     private final AddressBookParser addressBookParser;
 
+    // version of the model that was last handed to the saver
+    private long savedVersion = NOT_SAVED;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved to {@code storage} before each command that changed it returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, WriteBehindSaver.writeThrough(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, saving data to
+     * {@code storage} through {@code saver}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver) {
+        this(model, storage, saver, CommandMetrics.getGlobal());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, saving data to
+     * {@code storage} through {@code saver} and recording the latency and allocations of each command in
+     * {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.metrics = metrics;
         addressBookParser = new AddressBookParser();
     }
 
@@ -48,37 +81,79 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandMetrics.Sample sample = metrics.startSample();
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            sample.setCommandWord(commandWordOf(commandText));
+
+            sample.startPhase(Phase.EXECUTE);
+            CommandResult commandResult = command.execute(model);
+
+            // Only save the address book if the command mutates the data
+            if (command.isMutable()) {
+                model.pushMutableCommandHistory(command);
+            }
+
+            sample.startPhase(Phase.SAVE);
+            saveIfChanged();
+            return commandResult;
+        } finally {
+            sample.finish();
+        }
+    }
 
-        // Only save the address book if the command mutates the data
-        if (command.isMutable()) {
-            model.pushMutableCommandHistory(command);
+    /**
+     * Requests a save if the model changed since the last save, and reports any earlier save that failed.
+     */
+    private void saveIfChanged() throws CommandException {
+        // Skip saving if nothing changed since the last save
+        long version = model.getVersion();
+        if (version != savedVersion) {
+            saver.requestSave(model.getAddressBook(), model.getUserPrefs());
+            savedVersion = version;
         }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saver.checkFailure();
         } catch (IOException ioe) {
-            Path filePath = storage.getAddressBookFilePath();
-            logger.severe("Could not save data to file due to insufficient permission: " + filePath);
-
-            // check permission of filePath
-            Path parentPath = (filePath != null) ? filePath.getParent() : null;
-            boolean isParentPathNotWritable = (parentPath != null) && !Files.isWritable(parentPath);
-            boolean isFilePathNotWritable = (filePath != null) && !Files.isWritable(filePath);
-            if (isParentPathNotWritable || isFilePathNotWritable) {
-                throw new CommandException(
-                        String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, filePath), ioe);
-            }
+            savedVersion = NOT_SAVED; // retry with the next command
+            throw toCommandException(ioe);
+        }
+    }
+
+    /**
+     * Returns the command word that {@code commandText}, which has been parsed successfully, starts with.
+     */
+    private static String commandWordOf(String commandText) {
+        String trimmed = commandText.trim();
+        int end = 0;
+        while (end < trimmed.length() && (isAsciiLetter(trimmed.charAt(end)) || trimmed.charAt(end) == '-')) {
+            end++;
+        }
+        return trimmed.substring(0, end);
+    }
 
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    /**
+     * Converts an {@code IOException} thrown while saving into a {@code CommandException} describing it.
+     */
+    private CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        return commandResult;
+        Path filePath = storage.getAddressBookFilePath();
+        logger.severe("Could not save data to file due to insufficient permission: " + filePath);
+
+        // check permission of filePath
+        Path parentPath = (filePath != null) ? filePath.getParent() : null;
+        boolean isParentPathNotWritable = (parentPath != null) && !Files.isWritable(parentPath);
+        boolean isFilePathNotWritable = (filePath != null) && !Files.isWritable(filePath);
+        if (isParentPathNotWritable || isFilePathNotWritable) {
+            return new CommandException(
+                    String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, filePath), ioe);
+        }
+
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
@@ -86,6 +161,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public boolean hasPersonWithIdentity(PersonIdentity identity) {
+        return model.hasPersonWithIdentity(identity);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -0,0 +1,193 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Drives a {@link Logic} with a script of commands, as a user would, and reports the throughput and latency of
+ * executing them. Used to load test the app with large address books.
+ */
+public class ReplayHarness {
+
+    /** Percentages of add, edit, find, list and stats commands in a generated script, in that order. */
+    public static final int[] DEFAULT_COMMAND_MIX = {15, 15, 40, 20, 10};
+
+    private static final Logger logger = LogsCenter.getLogger(ReplayHarness.class);
+
+    private final Logic logic;
+
+    public ReplayHarness(Logic logic) {
+        this.logic = requireNonNull(logic);
+    }
+
+    /**
+     * Returns a script of {@code length} commands in the proportions of {@link #DEFAULT_COMMAND_MIX} for
+     * {@code addressBook}, which was generated by {@code generator}. Added persons are extra persons of
+     * {@code generator}, so they never duplicate existing ones, and finds search for the names and phone number
+     * prefixes of existing persons.
+     */
+    public static List<String> generateScript(AddressBookGenerator generator, ReadOnlyAddressBook addressBook,
+            int length, long seed) {
+        List<Person> persons = addressBook.getPersonList();
+        Random random = new Random(seed);
+        List<String> script = new ArrayList<>(length);
+        int added = 0;
+        for (int i = 0; i < length; i++) {
+            switch (pickCommand(random)) {
+            case 0:
+                script.add(toAddCommand(generator.generateExtraPerson(added++)));
+                break;
+            case 1:
+                // edit a person near the top of the displayed list, which exists unless a find matched nobody
+                script.add(EditCommand.COMMAND_WORD + " " + (1 + random.nextInt(5)) + " " + PREFIX_ADDRESS
+                        + "Blk " + (1 + random.nextInt(999)) + " Replay Street " + i);
+                break;
+            case 2:
+                script.add(FindCommand.COMMAND_WORD + " " + pickKeyword(persons, random));
+                break;
+            case 3:
+                script.add(ListCommand.COMMAND_WORD);
+                break;
+            default:
+                script.add(StatsCommand.COMMAND_WORD);
+                break;
+            }
+        }
+        return script;
+    }
+
+    /**
+     * Executes every command of {@code script} in order, timing each one. Commands that fail are timed too.
+     */
+    public Report run(List<String> script) {
+        long[] latencies = new long[script.size()];
+        int failures = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < script.size(); i++) {
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(script.get(i));
+            } catch (CommandException | ParseException e) {
+                logger.fine("Replayed command failed: " + script.get(i) + ": " + e.getMessage());
+                failures++;
+            }
+            latencies[i] = System.nanoTime() - commandStart;
+        }
+        return new Report(latencies, failures, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the index in {@link #DEFAULT_COMMAND_MIX} of a randomly picked kind of command.
+     */
+    private static int pickCommand(Random random) {
+        int roll = random.nextInt(100);
+        int kind = 0;
+        while (kind < DEFAULT_COMMAND_MIX.length - 1 && roll >= DEFAULT_COMMAND_MIX[kind]) {
+            roll -= DEFAULT_COMMAND_MIX[kind];
+            kind++;
+        }
+        return kind;
+    }
+
+    /**
+     * Returns the first name or the start of the phone number of a random person in {@code persons}.
+     */
+    private static String pickKeyword(List<Person> persons, Random random) {
+        if (persons.isEmpty()) {
+            return "alex";
+        }
+        Person person = persons.get(random.nextInt(persons.size()));
+        return random.nextBoolean()
+                ? person.getName().fullName.split(" ")[0]
+                : person.getPhone().value.substring(0, Math.min(5, person.getPhone().value.length()));
+    }
+
+    private static String toAddCommand(Person person) {
+        StringBuilder command = new StringBuilder(AddCommand.COMMAND_WORD)
+                .append(' ').append(PREFIX_NAME).append(person.getName())
+                .append(' ').append(PREFIX_PHONE).append(person.getPhone())
+                .append(' ').append(PREFIX_EMAIL).append(person.getEmail())
+                .append(' ').append(PREFIX_ADDRESS).append(person.getAddress());
+        for (Tag tag : person.getTags()) {
+            command.append(' ').append(PREFIX_TAG).append(tag.tagName);
+        }
+        return command.toString();
+    }
+
+    /**
+     * The throughput and latency of a replayed script.
+     */
+    public static class Report {
+        private final long[] sortedLatencies;
+        private final int failures;
+        private final long elapsedNanos;
+
+        Report(long[] latencies, int failures, long elapsedNanos) {
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getFailureCount() {
+            return failures;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : sortedLatencies.length * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Returns the latency, in nanoseconds, that {@code percentile} percent of the commands did not exceed.
+         */
+        public long getLatencyPercentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+            return sortedLatencies[Math.max(0, Math.min(rank, sortedLatencies.length) - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("commands", getCommandCount())
+                    .add("failures", failures)
+                    .add("throughput", String.format("%.1f/s", getThroughput()))
+                    .add("p50", String.format("%.3fms", getLatencyPercentile(50) / 1e6))
+                    .add("p99", String.format("%.3fms", getLatencyPercentile(99) / 1e6))
+                    .toString();
+        }
+    }
+}
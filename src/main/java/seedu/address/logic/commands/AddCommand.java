@@ -96,6 +96,11 @@ public class AddCommand extends Command {
         return true;
     }
 
+    @Override
+    public long estimateFootprint() {
+        return ESTIMATED_COMMAND_BYTES + ESTIMATED_PERSON_BYTES;
+    }
+
     /**
      * Undoes the add command by deleting the person that was added.
      * @param model
@@ -2,10 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.TagFolder;
 
 /**
@@ -36,16 +39,19 @@ public class ClearCommand extends Command {
             "  https://ay2526s1-cs2103-f13-2.github.io/tp/UserGuide.html#clearing-all-entries--clear"
     );
 
-    // to keep the current status of addressbook and tag folders for undo
-    private ReadOnlyAddressBook currentAddressBook;
+    /** Approximate number of bytes taken by one element of the snapshot's backing array. */
+    private static final long ESTIMATED_REFERENCE_BYTES = 8;
+
+    // to keep the current persons and tag folders for undo
+    private List<Person> currentPersons;
     private ObservableList<TagFolder> currentTagFolders;
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        // Store a copy of current address book for undo functionality
-        currentAddressBook = new AddressBook(model.getAddressBook().getPersonList());
+        // Store the current persons for undo functionality; persons are immutable, so they are shared, not copied
+        currentPersons = List.copyOf(model.getAddressBook().getPersonList());
         currentTagFolders = model.getActiveTagFoldersCopy();
 
         // Clear the address book
@@ -62,12 +68,29 @@ public class ClearCommand extends Command {
         return true;
     }
 
+    /**
+     * Returns the bytes retained by the snapshot: its backing array and, since the model no longer refers to them
+     * once cleared, every person in it. The snapshot keeps no indexes, so nothing else grows with its size.
+     */
+    @Override
+    public long estimateFootprint() {
+        long bytes = ESTIMATED_COMMAND_BYTES;
+        if (currentPersons != null) {
+            bytes += currentPersons.size() * (ESTIMATED_REFERENCE_BYTES + ESTIMATED_PERSON_BYTES);
+        }
+        if (currentTagFolders != null) {
+            bytes += currentTagFolders.size() * ESTIMATED_COMMAND_BYTES;
+        }
+        return bytes;
+    }
+
     @Override
     public String undo(Model model) {
         requireNonNull(model);
-        if (currentAddressBook != null || currentTagFolders != null) {
-            if (currentAddressBook != null) {
-                model.setAddressBook(currentAddressBook);
+        if (currentPersons != null || currentTagFolders != null) {
+            if (currentPersons != null) {
+                // the model sets its persons from this view, so the snapshot needs no indexes of its own
+                model.setAddressBook(() -> FXCollections.observableList(currentPersons));
             }
             if (currentTagFolders != null) {
                 model.setActiveTagFolders(currentTagFolders);
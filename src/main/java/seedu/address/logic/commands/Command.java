@@ -8,6 +8,12 @@ import seedu.address.model.Model;
  */
 public abstract class Command {
 
+    /** Approximate number of bytes retained by a command object and its own fields. */
+    public static final long ESTIMATED_COMMAND_BYTES = 128;
+
+    /** Approximate number of bytes retained by a {@code Person} and its fields. */
+    public static final long ESTIMATED_PERSON_BYTES = 512;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -44,4 +50,12 @@ public abstract class Command {
     public String undo(Model model) throws UnsupportedOperationException {
         throw new UnsupportedOperationException("This command does not support undo.");
     }
+
+    /**
+     * Returns the approximate number of bytes this command retains to support undo and redo.
+     * Commands that keep persons or other data for undo should override this to account for them.
+     */
+    public long estimateFootprint() {
+        return ESTIMATED_COMMAND_BYTES;
+    }
 }
@@ -8,9 +8,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
 /**
@@ -49,7 +47,8 @@ public class DeleteCommand extends Command {
     private final Index targetIndex;
 
     private Person personToDelete = null;
-    private ReadOnlyAddressBook currentAddressBook = null;
+    // position of the deleted person in the full person list, so that undo can put it back in place
+    private int deletedIndex = -1;
 
     public DeleteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
@@ -64,8 +63,8 @@ public class DeleteCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        currentAddressBook = new AddressBook(model.getAddressBook().getPersonList());
         personToDelete = personToDelete == null ? lastShownList.get(targetIndex.getZeroBased()) : personToDelete;
+        deletedIndex = model.getAddressBook().getPersonList().indexOf(personToDelete);
         model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
@@ -79,6 +78,11 @@ public class DeleteCommand extends Command {
         return true;
     }
 
+    @Override
+    public long estimateFootprint() {
+        return ESTIMATED_COMMAND_BYTES + ESTIMATED_PERSON_BYTES;
+    }
+
     /**
      * Re-inserts the deleted person back into the model at the original index.
      * Assumes that the person to delete is not null and that the target index is valid.
@@ -91,9 +95,9 @@ public class DeleteCommand extends Command {
     public String undo(Model model) {
         requireNonNull(model);
 
-        if (personToDelete != null) {
+        if (personToDelete != null && deletedIndex >= 0) {
             // Re-insert the deleted person at the original index
-            model.setAddressBook(currentAddressBook);
+            model.insertPerson(deletedIndex, personToDelete);
             return String.format(MESSAGE_UNDO_SUCCESS, Messages.format(personToDelete));
         } else {
             throw new IllegalStateException(MESSAGE_UNDO_FAILED);
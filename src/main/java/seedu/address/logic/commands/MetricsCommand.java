@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows the latency of each phase of the commands executed so far, and the memory they allocated.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_SUCCESS = "Command metrics since the app started:\n%1$s";
+
+    public static final String MANUAL = String.join("\n",
+            "NAME",
+            "  metrics — Shows how long commands took and how much memory they used.",
+            "",
+            "USAGE",
+            "  metrics",
+            "",
+            "DESCRIPTION",
+            "  For each command word used since the app started, shows:",
+            "  • The number of times it was entered.",
+            "  • The median, 99th percentile and maximum time of each phase: parse, execute,",
+            "    folder refresh and save.",
+            "  • The median, 99th percentile and maximum memory allocated by the command.",
+            "  Commands that could not be understood are grouped as '" + CommandMetrics.INVALID_COMMAND_WORD + "'.",
+            "  The same summary is also written to the metrics file set in config.json every minute.",
+            "",
+            "EXAMPLES",
+            "  metrics"
+    );
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a command showing the metrics shared by the whole app.
+     */
+    public MetricsCommand() {
+        this(CommandMetrics.getGlobal());
+    }
+
+    /**
+     * Creates a command showing {@code metrics}.
+     */
+    public MetricsCommand(CommandMetrics metrics) {
+        this.metrics = requireNonNull(metrics);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, metrics.format()));
+    }
+
+    @Override
+    public String man() {
+        return MANUAL;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MetricsCommand)) {
+            return false;
+        }
+
+        MetricsCommand otherMetricsCommand = (MetricsCommand) other;
+        return metrics == otherMetricsCommand.metrics;
+    }
+}
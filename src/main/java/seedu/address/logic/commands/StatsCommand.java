@@ -1,17 +1,13 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.StringJoiner;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.TagMatchesAllPredicate;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 
@@ -48,35 +44,40 @@ public class StatsCommand extends Command {
 
     private static final String MESSAGE_SUCCESS = "%1$s";
 
+    // Tables rendered for the last stats read from a model. Models return the same stats until their data changes,
+    // so the tables are only formatted again after a change.
+    private static volatile RenderedTables lastRendered;
+
     private String computeStats(Model model) {
         requireNonNull(model);
-        HashMap<FeatureTag, Set<Tag>> bizTags = model.getBizTags();
+        String barOutput = "==========";
+        String overview = "Total Number of Customers in Address Book: " + model.getSize() + "\n\n" + barOutput;
 
-        FilteredList<Person> filteredPersons =
-                new FilteredList<>(model.getPersonListCopy());
-        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        return String.join("\n\n", overview, renderTables(model.getFeatureStats()));
+    }
 
-        ArrayList<String> tables = new ArrayList<>();
+    private static String renderTables(List<FeatureStats> featureStats) {
+        RenderedTables rendered = lastRendered;
+        if (rendered != null && rendered.featureStats == featureStats) {
+            return rendered.tables;
+        }
 
-        String barOutput = "==========";
+        ArrayList<String> tables = new ArrayList<>();
         String barTable = "----------";
-
-        for (FeatureTag category : bizTags.keySet()) {
-            tables.add(this.getFeatureStats(filteredPersons, bizTags, category));
+        for (FeatureStats stats : featureStats) {
+            tables.add(getFeatureStats(stats));
             tables.add(barTable);
             tables.add("\n");
         }
 
         String summaryTables = String.join("\n", tables);
-        String overview = "Total Number of Customers in Address Book: " + model.getSize() + "\n\n" + barOutput;
-
-        return String.join("\n\n", overview, summaryTables);
+        lastRendered = new RenderedTables(featureStats, summaryTables);
+        return summaryTables;
     }
 
-    private String getFeatureStats(
-            FilteredList<Person> filteredPersons, HashMap<FeatureTag, Set<Tag>> bizTags, FeatureTag feature) {
-        Set<Tag> tags = bizTags.get(feature);
-        assert tags != null;
+    private static String getFeatureStats(FeatureStats stats) {
+        List<Tag> tags = stats.getTags();
+        FeatureTag feature = stats.getFeature();
         ArrayList<String> results = new ArrayList<>();
 
         // Find the longest tag for proper alignment
@@ -90,51 +91,23 @@ public class StatsCommand extends Command {
 
         results.add(String.format("%-" + padding + "s | Number of people", feature));
 
-        int catTotal = 0;
-        int catCount = 0;
-        int catMax = 0;
-        int catMin = filteredPersons.size();
-
-        StringBuilder catMaxTag = new StringBuilder();
-        StringBuilder catMinTag = new StringBuilder();
-
-        for (Tag tag : tags) {
-            Set<Tag> set = new LinkedHashSet<>();
-            set.add(tag);
-            requireNonNull(filteredPersons);
-            filteredPersons.setPredicate(new TagMatchesAllPredicate(set));
-            int total = filteredPersons.size();
-            catTotal += total;
-            catCount++;
-
-            if (total == catMax) {
-                catMaxTag.append(catMaxTag.isEmpty() ? tag : ", " + tag);
-            } else if (total > catMax) {
-                catMax = total;
-                catMaxTag = new StringBuilder(tag.toString());
-            }
-
-            if (total == catMin) {
-                catMinTag.append(catMinTag.isEmpty() ? tag : ", " + tag);
-            } else if (total < catMin) {
-                catMin = total;
-                catMinTag = new StringBuilder(tag.toString());
-            }
-
-            String stat = String.format("%-" + padding + "s | %d", tag, total);
+        for (int i = 0; i < tags.size(); i++) {
+            String stat = String.format("%-" + padding + "s | %d", tags.get(i), stats.getCount(i));
             results.add(stat);
         }
 
-        float mean = catCount > 0 ? (float) catTotal / catCount : -1;
+        float mean = stats.getMean();
+        int catMax = stats.getMaxCount();
+        int catMin = stats.getMinCount();
 
         String perTag = " per tag)";
         String catSummary = String.join("\n",
-                "\nTotal for Feature: " + catTotal,
+                "\nTotal for Feature: " + stats.getTotal(),
                 "Average: " + (mean == -1 ? "N/A" : String.format("%.2f", mean)),
-                "Max Tag: " + catMaxTag + " (" + catMax + String.format(" %s", catMax != 1 ? "people" : "person")
-                        + perTag,
-                "Min Tag: " + catMinTag + " (" + catMin + String.format(" %s", catMin != 1 ? "people" : "person")
-                        + perTag
+                "Max Tag: " + joinTags(stats.getMaxTags()) + " (" + catMax
+                        + String.format(" %s", catMax != 1 ? "people" : "person") + perTag,
+                "Min Tag: " + joinTags(stats.getMinTags()) + " (" + catMin
+                        + String.format(" %s", catMin != 1 ? "people" : "person") + perTag
         );
 
         results.add(String.join("\n", catSummary));
@@ -142,6 +115,14 @@ public class StatsCommand extends Command {
         return String.join("\n", results);
     }
 
+    private static String joinTags(List<Tag> tags) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Tag tag : tags) {
+            joiner.add(tag.toString());
+        }
+        return joiner.toString();
+    }
+
     @Override
     public CommandResult execute(Model model) {
         //this.computeStats(model)
@@ -157,4 +138,14 @@ public class StatsCommand extends Command {
     public boolean equals(Object other) {
         return (other instanceof StatsCommand);
     }
+
+    private static class RenderedTables {
+        private final List<FeatureStats> featureStats;
+        private final String tables;
+
+        RenderedTables(List<FeatureStats> featureStats, String tables) {
+            this.featureStats = featureStats;
+            this.tables = tables;
+        }
+    }
 }
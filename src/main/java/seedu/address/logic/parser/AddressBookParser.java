@@ -1,13 +1,15 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static java.util.Map.entry;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.ValidationConstants.isAsciiLetter;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_INPUT_CHARACTERS;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -22,6 +24,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ManCommand;
+import seedu.address.logic.commands.MetricsCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -29,15 +32,33 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * Each command word maps to a {@link Parser} of its arguments. The parsers hold no state, so a single instance of each
+ * is shared by every call. Further command words, such as those of plugins or aliases of existing commands, can be
+ * registered on a parser at any time.
  */
 public class AddressBookParser {
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT =
-            Pattern.compile("(?<commandWord>[a-zA-Z-]+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private static final Map<String, Parser<? extends Command>> BUILT_IN_PARSERS = Map.ofEntries(
+            entry(AddCommand.COMMAND_WORD, new AddCommandParser()),
+            entry(EditCommand.COMMAND_WORD, new EditCommandParser()),
+            entry(DeleteCommand.COMMAND_WORD, new DeleteCommandParser()),
+            entry(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand()),
+            entry(FindCommand.COMMAND_WORD, new FindCommandParser()),
+            entry(ListCommand.COMMAND_WORD, new ListCommandParser()),
+            entry(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()),
+            entry(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand()),
+            entry(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand()),
+            entry(MetricsCommand.COMMAND_WORD, arguments -> new MetricsCommand()),
+            entry(ManCommand.COMMAND_WORD, new ManCommandParser()),
+            entry(BizTagCommand.COMMAND_WORD, new BizTagCommandParser()),
+            entry(BizUntagCommand.COMMAND_WORD, new BizUntagCommandParser()),
+            entry(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand()),
+            entry(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand()));
+
+    private final Map<String, Parser<? extends Command>> parsers = new ConcurrentHashMap<>(BUILT_IN_PARSERS);
+
     /**
      * Parses user input into command for execution.
      *
@@ -47,71 +68,80 @@ public class AddressBookParser {
      */
     public Command parseCommand(String userInput) throws ParseException {
 
-        // Reject any non-standard characters to prevent potential security issues
-        if (!userInput.matches(PRINTABLE_ASCII_REGEX)) {
-            throw new ParseException(MESSAGE_INVALID_INPUT_CHARACTERS);
+        // Reject any non-standard characters to prevent potential security issues, finding the bounds of the
+        // input without its surrounding spaces in the same pass
+        int start = -1;
+        int end = 0;
+        for (int i = 0; i < userInput.length(); i++) {
+            char c = userInput.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                throw new ParseException(MESSAGE_INVALID_INPUT_CHARACTERS);
+            }
+            if (c != ' ') {
+                start = start < 0 ? i : start;
+                end = i + 1;
+            }
         }
 
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        // The command word is the leading run of letters and dashes
+        int commandWordEnd = Math.max(start, 0);
+        while (commandWordEnd < end && isCommandWordCharacter(userInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (start < 0 || commandWordEnd == start) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = userInput.substring(start, commandWordEnd);
+        final String arguments = userInput.substring(commandWordEnd, end);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case StatsCommand.COMMAND_WORD:
-            return new StatsCommand();
-
-        case ManCommand.COMMAND_WORD:
-            return new ManCommandParser().parse(arguments);
-
-        case BizTagCommand.COMMAND_WORD:
-            return new BizTagCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case BizUntagCommand.COMMAND_WORD:
-            return new BizUntagCommandParser().parse(arguments);
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord}.
+     * {@code parser} may be used by several threads at once, so it should hold no state.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not made of letters and dashes only, or is already
+     *     registered.
+     */
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (commandWord.isEmpty() || !commandWord.chars().allMatch(c -> isCommandWordCharacter((char) c))) {
+            throw new IllegalArgumentException("Command words may only contain letters and dashes: " + commandWord);
+        }
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException("Command word is already registered: " + commandWord);
+        }
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Registers {@code alias} as another command word for the command registered as {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not registered, or {@code alias} is invalid or
+     *     already registered.
+     */
+    public void registerAlias(String alias, String commandWord) {
+        requireNonNull(commandWord);
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            throw new IllegalArgumentException("Unknown command word: " + commandWord);
         }
+        registerCommand(alias, parser);
+    }
+
+    private static boolean isCommandWordCharacter(char c) {
+        return isAsciiLetter(c) || c == '-';
     }
 }
@@ -1,10 +1,5 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -12,153 +7,118 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. A prefix is only recognized at the start of the arguments string or after a whitespace. Where several prefixes
+ *    match at the same position, the longest one is taken.<br>
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
+     * The string is scanned once from left to right. Only positions at the start or after a whitespace can start a
+     * prefix, and those are first checked against the set of first characters of {@code prefixes}, so most positions
+     * cost a single bit test. Each value is cut from the string once its end is known, without sorting or
+     * intermediate strings.
+     *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+        FirstChars firstChars = new FirstChars(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        boolean atBoundary = true;
+        int i = 0;
+        while (i < argsString.length()) {
+            char c = argsString.charAt(i);
+            Prefix match = atBoundary && firstChars.contains(c) ? findLongestPrefixAt(argsString, i, prefixes) : null;
+            if (match == null) {
+                atBoundary = Character.isWhitespace(c);
+                i++;
+                continue;
+            }
 
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(
-                    argsString,
-                    prefix.getPrefix(),
-                    prefixPosition + prefix.getPrefix().length()
-            );
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, i));
+            currentPrefix = match;
+            i += match.getPrefix().length();
+            valueStart = i;
+            atBoundary = Character.isWhitespace(argsString.charAt(i - 1));
         }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, argsString.length()));
 
-        return positions;
+        return argMultimap;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * Returns the longest of {@code prefixes} that occurs in {@code argsString} at index {@code position},
+     * or null if none does. Empty prefixes never match.
      */
-    private static int findPrefixPosition(String s, String prefix, int from) {
-        int i = from;
-        while (i <= s.length() - prefix.length()) {
-            int pos = s.indexOf(prefix, i);
-            if (pos == -1) {
-                return -1;
-            }
-
-            boolean atStart = pos == 0;
-            boolean precededByWs = !atStart && Character.isWhitespace(s.charAt(pos - 1));
-            if (atStart || precededByWs) {
-                return pos;
+    private static Prefix findLongestPrefixAt(String argsString, int position, Prefix... prefixes) {
+        Prefix longest = null;
+        for (Prefix prefix : prefixes) {
+            String candidate = prefix.getPrefix();
+            if (!candidate.isEmpty()
+                    && (longest == null || candidate.length() > longest.getPrefix().length())
+                    && argsString.startsWith(candidate, position)) {
+                longest = prefix;
             }
-
-            i = pos + 1; // keep searching
         }
-        return -1;
+        return longest;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Returns the value between {@code start} and {@code end} in the arguments string, with leading and trailing
+     * whitespace removed as by {@link String#trim()}.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static String extractArgumentValue(String argsString, int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
         }
-
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * The set of first characters of some prefixes, as a bit set over ASCII. Prefixes starting with any other
+     * character are always tried.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class FirstChars {
+        private long low;
+        private long high;
+        private boolean hasNonAscii;
+
+        FirstChars(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                if (prefix.getPrefix().isEmpty()) {
+                    continue;
+                }
+                char first = prefix.getPrefix().charAt(0);
+                if (first < 64) {
+                    low |= 1L << first;
+                } else if (first < 128) {
+                    high |= 1L << (first - 64);
+                } else {
+                    hasNonAscii = true;
+                }
+            }
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        boolean contains(char c) {
+            if (c < 64) {
+                return (low & (1L << c)) != 0;
+            }
+            if (c < 128) {
+                return (high & (1L << (c - 64))) != 0;
+            }
+            return hasNonAscii;
         }
     }
 
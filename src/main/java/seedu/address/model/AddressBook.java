@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ClientMatchesPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.TagMatchesAllPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -70,6 +76,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person with the given {@code identity} exists in the address book.
+     * May be called from any thread.
+     */
+    public boolean hasPersonWithIdentity(PersonIdentity identity) {
+        requireNonNull(identity);
+        return persons.containsIdentity(identity);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -105,6 +120,41 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// tag-level operations
+
+    /**
+     * Returns the number of persons having every tag named in {@code tagNames}.
+     */
+    public int countPersonsWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return persons.getTagIndex().countPersonsWithAllTags(tagNames);
+    }
+
+    /**
+     * Returns the names of all tags carried by at least one person in the address book.
+     */
+    public Set<String> getTagNames() {
+        return persons.getTagIndex().getTagNames();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the tag index of this address book
+     * instead of by inspecting the tags of every person.
+     */
+    public Predicate<Person> toIndexedPredicate(TagMatchesAllPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getTagIndex().toIndexedPredicate(predicate.getRequiredTagNames(), predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the search index of this address
+     * book, so that only persons sharing every trigram of a keyword are inspected.
+     */
+    public Predicate<Person> toIndexedPredicate(ClientMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getSearchIndex().toIndexedPredicate(predicate.getSearchTerms(), predicate);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,155 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+
+/**
+ * The undo and redo history of mutable commands, bounded both in depth and in approximate memory footprint.
+ * The footprint of each command is taken from {@link Command#estimateFootprint()} when it is pushed. Whenever either
+ * bound is exceeded, the oldest commands are evicted first; the most recently pushed command is always kept.
+ */
+public class CommandHistory {
+
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private final int maxDepth;
+    private final long maxBytes;
+    private long footprint;
+
+    /**
+     * Creates a {@code CommandHistory} with the default bounds.
+     */
+    public CommandHistory() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a {@code CommandHistory} keeping at most {@code maxDepth} commands in each of the undo and redo
+     * histories, and at most about {@code maxBytes} bytes across both.
+     */
+    public CommandHistory(int maxDepth, long maxBytes) {
+        if (maxDepth < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("History bounds must be positive.");
+        }
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records {@code command} as the most recent command that can be undone.
+     */
+    public void pushUndo(Command command) {
+        push(undoEntries, command);
+    }
+
+    /**
+     * Records {@code command} as the most recent command that can be redone.
+     */
+    public void pushRedo(Command command) {
+        push(redoEntries, command);
+    }
+
+    /**
+     * Removes and returns the most recent command that can be undone, if any.
+     */
+    public Optional<Command> popUndo() {
+        return pop(undoEntries);
+    }
+
+    /**
+     * Removes and returns the most recent command that can be redone, if any.
+     */
+    public Optional<Command> popRedo() {
+        return pop(redoEntries);
+    }
+
+    /**
+     * Forgets all commands that can be redone.
+     */
+    public void clearRedo() {
+        for (Entry entry : redoEntries) {
+            footprint -= entry.bytes;
+        }
+        redoEntries.clear();
+    }
+
+    public int getUndoSize() {
+        return undoEntries.size();
+    }
+
+    public int getRedoSize() {
+        return redoEntries.size();
+    }
+
+    /**
+     * Returns the approximate number of bytes retained by the commands in this history.
+     */
+    public long getFootprint() {
+        return footprint;
+    }
+
+    private void push(Deque<Entry> entries, Command command) {
+        requireNonNull(command);
+        Entry entry = new Entry(command, Math.max(0, command.estimateFootprint()));
+        entries.push(entry);
+        footprint += entry.bytes;
+        evict(entries);
+    }
+
+    private Optional<Command> pop(Deque<Entry> entries) {
+        Entry entry = entries.poll();
+        if (entry == null) {
+            return Optional.empty();
+        }
+        footprint -= entry.bytes;
+        return Optional.of(entry.command);
+    }
+
+    /**
+     * Evicts the oldest commands until the bounds are respected. To stay within the byte budget, commands are evicted
+     * from the other history before {@code pushedTo}, and the command just pushed is never evicted.
+     */
+    private void evict(Deque<Entry> pushedTo) {
+        while (pushedTo.size() > maxDepth) {
+            footprint -= pushedTo.removeLast().bytes;
+        }
+        Deque<Entry> other = pushedTo == undoEntries ? redoEntries : undoEntries;
+        while (footprint > maxBytes && !other.isEmpty()) {
+            footprint -= other.removeLast().bytes;
+        }
+        while (footprint > maxBytes && pushedTo.size() > 1) {
+            footprint -= pushedTo.removeLast().bytes;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undo", undoEntries.size())
+                .add("redo", redoEntries.size())
+                .add("footprint", footprint)
+                .toString();
+    }
+
+    /**
+     * A command in the history together with its estimated footprint.
+     */
+    private static class Entry {
+        private final Command command;
+        private final long bytes;
+
+        Entry(Command command, long bytes) {
+            this.command = command;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -11,6 +11,9 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.Command;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.tag.FeatureHistogram;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -65,6 +68,12 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns true if a person with the given {@code identity} exists in the address book.
+     * Unlike the other methods of the model, this may be called from any thread.
+     */
+    boolean hasPersonWithIdentity(PersonIdentity identity);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -77,6 +86,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Inserts the given person at {@code index} of the address book's person list.
+     * {@code person} must not already exist in the address book.
+     */
+    void insertPerson(int index, Person person);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -122,6 +137,22 @@ public interface Model {
      */
     HashMap<FeatureTag, Set<Tag>> getBizTags();
 
+    /**
+     * Returns the number of persons in the address book having each tag of every declared feature, in the
+     * iteration order of {@link #getBizTags()}.
+     * By default the tags are counted by {@link FeatureHistogram} in one pass over {@link #getPersonListCopy()};
+     * models that index their persons by tag should read the counts from the index instead.
+     */
+    default List<FeatureStats> getFeatureStats() {
+        return FeatureHistogram.count(getBizTags(), getPersonListCopy());
+    }
+
+    /**
+     * Returns a number that changes whenever the address book or the user prefs change,
+     * so that callers can tell whether they need to be saved again.
+     */
+    long getVersion();
+
     /**
      * Saves the mutable command history to support undo.
      */
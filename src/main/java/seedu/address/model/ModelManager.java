@@ -5,24 +5,33 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Stack;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.logic.commands.Command;
+import seedu.address.model.person.ClientMatchesPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.TagMatchesAllPredicate;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -39,15 +48,27 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final HashMap<FeatureTag, Set<Tag>> bizTags;
 
-    // Stacks for undo and redo functionality
-    private final Stack<Command> undoStack = new Stack<>();
-    private final Stack<Command> redoStack = new Stack<>();
+    // Bounded history for undo and redo functionality
+    private final CommandHistory commandHistory;
+
+    // Incremented whenever persisted data changes
+    private long version;
+
+    // Incremented whenever features are declared or undeclared; they are not persisted
+    private long bizTagsVersion;
+
+    // Stats of the declared features, reused while neither version changes
+    private List<FeatureStats> featureStats;
+    private long featureStatsVersion;
+    private long featureStatsBizTagsVersion;
 
     // Sidebar state
     private final ObservableList<TagFolder> activeFolders =
             FXCollections.observableArrayList();
     private final LinkedHashMap<String, Integer> folderIndex =
             new LinkedHashMap<>();
+    // query tag name -> folders whose query includes that tag; rebuilt together with folderIndex
+    private final HashMap<String, List<TagFolder>> foldersByTag = new HashMap<>();
 
     // --- constructors must come before any methods ---
     public ModelManager() {
@@ -64,6 +85,9 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.bizTags = new HashMap<>();
+        this.commandHistory = new CommandHistory(
+                this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoHistoryMaxBytes());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> version++);
 
         requireAllNonNull(addressBook, userPrefs);
         // call this at the end of ModelManager constructor after addressBook is set:
@@ -79,6 +103,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        version++;
     }
 
     @Override
@@ -95,6 +120,7 @@ public class ModelManager implements Model {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         userPrefs.setGuiSettings(guiSettings);
+        version++;
     }
 
     @Override
@@ -106,6 +132,7 @@ public class ModelManager implements Model {
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
         userPrefs.setAddressBookFilePath(addressBookFilePath);
+        version++;
     }
 
     //=========== AddressBook ================================================================================
@@ -115,6 +142,7 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
         activeFolders.clear();
         folderIndex.clear();
+        foldersByTag.clear();
         bootstrapAllTags();
         refreshActiveTagFolderCounts();
         persistUserFoldersToPrefs();
@@ -131,26 +159,40 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasPersonWithIdentity(PersonIdentity identity) {
+        requireNonNull(identity);
+        return addressBook.hasPersonWithIdentity(identity);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        refreshActiveTagFolderCounts();
+        applyTagFolderDelta(target.getTags(), Set.of(), Set.of());
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ensureFoldersExistForTags(person.getTags());
-        refreshActiveTagFolderCounts();
+        Set<TagFolder> created = ensureFoldersExistForTags(person.getTags());
+        applyTagFolderDelta(Set.of(), person.getTags(), created);
+    }
+
+    @Override
+    public void insertPerson(int index, Person person) {
+        requireNonNull(person);
+        addressBook.insertPerson(index, person);
+        Set<TagFolder> created = ensureFoldersExistForTags(person.getTags());
+        applyTagFolderDelta(Set.of(), person.getTags(), created);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
-        ensureFoldersExistForTags(editedPerson.getTags());
-        refreshActiveTagFolderCounts();
+        Set<TagFolder> created = ensureFoldersExistForTags(editedPerson.getTags());
+        applyTagFolderDelta(target.getTags(), editedPerson.getTags(), created);
     }
 
     @Override
@@ -177,6 +219,16 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof TagMatchesAllPredicate tagPredicate) {
+            // answer tag filters from the tag index rather than by testing every person's tags
+            filteredPersons.setPredicate(addressBook.toIndexedPredicate(tagPredicate));
+            return;
+        }
+        if (predicate instanceof ClientMatchesPredicate clientPredicate) {
+            // only verify the persons the search index reports as candidates
+            filteredPersons.setPredicate(addressBook.toIndexedPredicate(clientPredicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -188,11 +240,13 @@ public class ModelManager implements Model {
     @Override
     public void addBizTags(FeatureTag field, Set<Tag> tags) {
         this.bizTags.put(field, tags);
+        bizTagsVersion++;
     }
 
     @Override
     public void removeBizFeature(FeatureTag field) {
         this.bizTags.remove(field);
+        bizTagsVersion++;
     }
 
     @Override
@@ -204,6 +258,22 @@ public class ModelManager implements Model {
         return deepCopy;
     }
 
+    /**
+     * {@inheritDoc}
+     * Each count is read from the tag index, and the result is reused until the persons or the declared features
+     * change.
+     */
+    @Override
+    public List<FeatureStats> getFeatureStats() {
+        if (featureStats == null || featureStatsVersion != version || featureStatsBizTagsVersion != bizTagsVersion) {
+            featureStats = FeatureStats.of(getBizTags(),
+                    tag -> addressBook.countPersonsWithAllTags(List.of(tag.tagName)), addressBook.getSize());
+            featureStatsVersion = version;
+            featureStatsBizTagsVersion = bizTagsVersion;
+        }
+        return featureStats;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -222,36 +292,41 @@ public class ModelManager implements Model {
     }
 
     //=========== Undo/Redo ==================================================================================
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public void pushMutableCommandHistory(Command command) {
         if (command.isMutable()) {
-            undoStack.push(command);
-            redoStack.clear(); // Clear redo stack on new command
+            commandHistory.pushUndo(command);
+            commandHistory.clearRedo(); // Clear redo history on new command
         }
     }
 
     @Override
     public Optional<Command> popLastMutableCommand() {
-        if (undoStack.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(undoStack.pop());
+        return commandHistory.popUndo();
     }
 
     @Override
     public void pushUndoCommandHistory(Command command) {
         if (command.isMutable()) {
-            redoStack.push(command);
+            commandHistory.pushRedo(command);
         }
     }
 
     @Override
     public Optional<Command> popLastUndoCommand() {
-        if (redoStack.isEmpty()) {
-            return Optional.empty();
-        }
+        return commandHistory.popRedo();
+    }
 
-        return Optional.of(redoStack.pop());
+    /**
+     * Returns the undo and redo history of this model.
+     */
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
     }
 
     // =========== Tag Folders (sidebar) ==================================================
@@ -346,25 +421,81 @@ public class ModelManager implements Model {
 
     @Override
     public void refreshActiveTagFolderCounts() {
-        var people = getAddressBook().getPersonList();
+        CommandMetrics.beginFolderRefresh();
+        try {
+            for (TagFolder tagFolder : activeFolders) {
+                tagFolder.setCount(addressBook.countPersonsWithAllTags(tagFolder.getQueryTags()));
+            }
 
-        for (TagFolder tagFolder : activeFolders) {
-            int count = (int) people.stream()
-                    .filter(p -> tagFolder.getQueryTags().stream()
-                            .allMatch(qt -> p.getTags().stream()
-                                    .anyMatch(t -> t.tagName.equals(qt))))
-                    .count();
-            tagFolder.setCount(count);
+            // Remove folders with zero count
+            boolean removedAny = activeFolders.removeIf(f -> !f.isUserCreated() && f.getCount() == 0);
+
+            if (removedAny) {
+                sortFolders();
+            }
+        } finally {
+            CommandMetrics.endFolderRefresh();
         }
+    }
+
+    /**
+     * Updates the counts of the folders affected by a single person's tags changing from {@code oldTags} to
+     * {@code newTags}, then removes any affected non-user folder left empty.
+     * Only folders querying a tag that was added or removed can change, so the other folders are not touched.
+     * The folders in {@code created} were counted after the change, so the delta is not applied to them.
+     */
+    private void applyTagFolderDelta(Collection<Tag> oldTags, Collection<Tag> newTags, Set<TagFolder> created) {
+        CommandMetrics.beginFolderRefresh();
+        try {
+            Set<String> oldNames = toTagNames(oldTags);
+            Set<String> newNames = toTagNames(newTags);
+
+            Set<TagFolder> affected = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String name : oldNames) {
+                if (!newNames.contains(name)) {
+                    affected.addAll(foldersByTag.getOrDefault(name, List.of()));
+                }
+            }
+            for (String name : newNames) {
+                if (!oldNames.contains(name)) {
+                    affected.addAll(foldersByTag.getOrDefault(name, List.of()));
+                }
+            }
+            if (affected.isEmpty()) {
+                return;
+            }
 
-        // Remove folders with zero count
-        boolean removedAny = activeFolders.removeIf(f -> !f.isUserCreated() && f.getCount() == 0);
+            affected.removeAll(created);
+            if (affected.isEmpty()) {
+                return;
+            }
 
-        if (removedAny) {
-            sortFolders();
+            for (TagFolder folder : affected) {
+                List<String> query = folder.getQueryTags();
+                int delta = (newNames.containsAll(query) ? 1 : 0) - (oldNames.containsAll(query) ? 1 : 0);
+                if (delta != 0) {
+                    folder.setCount(Math.max(0, folder.getCount() + delta));
+                }
+            }
+
+            boolean removedAny = activeFolders.removeIf(f ->
+                    affected.contains(f) && !f.isUserCreated() && f.getCount() == 0);
+            if (removedAny) {
+                sortFolders();
+            }
+        } finally {
+            CommandMetrics.endFolderRefresh();
         }
     }
 
+    private static Set<String> toTagNames(Collection<Tag> tags) {
+        Set<String> names = new HashSet<>();
+        for (Tag tag : tags) {
+            names.add(tag.tagName);
+        }
+        return names;
+    }
+
     @Override
     public void addCompositeTagFolder(List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
@@ -401,10 +532,7 @@ public class ModelManager implements Model {
     }
 
     private void bootstrapAllTags() {
-        java.util.Set<String> all = new java.util.HashSet<>();
-        getAddressBook().getPersonList().forEach(p ->
-                p.getTags().forEach(t -> all.add(t.tagName)));
-        addActiveTagFolders(new java.util.ArrayList<>(all));
+        addActiveTagFolders(new ArrayList<>(addressBook.getTagNames()));
     }
 
     private void loadUserSavedFoldersFromPrefs() {
@@ -440,29 +568,48 @@ public class ModelManager implements Model {
     }
 
 
-    // Ensures every tag has a corresponding TagFolder.
-    private void ensureFoldersExistForTags(java.util.Collection<? extends Tag> tags) {
-        if (tags == null) {
-            return;
-        }
-        boolean added = false;
-        for (Tag t : tags) {
-            String display = t.tagName;
-            if (!hasTagFolder(display)) {
-                activeFolders.add(new TagFolder(display, 0));
-                added = true;
+    // Ensures every tag has a corresponding TagFolder, counting each folder it creates from the address book as it is
+    // now, and returns the created folders.
+    private Set<TagFolder> ensureFoldersExistForTags(java.util.Collection<? extends Tag> tags) {
+        CommandMetrics.beginFolderRefresh();
+        try {
+            if (tags == null) {
+                return Set.of();
             }
-        }
-        if (added) {
-            sortFolders();
+            Set<TagFolder> created = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Tag t : tags) {
+                String display = t.tagName;
+                if (!hasTagFolder(display)) {
+                    TagFolder folder = new TagFolder(display, 0);
+                    folder.setCount(addressBook.countPersonsWithAllTags(folder.getQueryTags()));
+                    activeFolders.add(folder);
+                    created.add(folder);
+                }
+            }
+            if (!created.isEmpty()) {
+                sortFolders();
+            }
+            return created;
+        } finally {
+            CommandMetrics.endFolderRefresh();
         }
     }
 
     private void sortFolders() {
-        FXCollections.sort(activeFolders);
-        folderIndex.clear();
-        for (int i = 0; i < activeFolders.size(); i++) {
-            folderIndex.put(activeFolders.get(i).getName().toLowerCase(), i);
+        CommandMetrics.beginFolderRefresh();
+        try {
+            FXCollections.sort(activeFolders);
+            folderIndex.clear();
+            foldersByTag.clear();
+            for (int i = 0; i < activeFolders.size(); i++) {
+                TagFolder folder = activeFolders.get(i);
+                folderIndex.put(folder.getName().toLowerCase(), i);
+                for (String tagName : folder.getQueryTags()) {
+                    foldersByTag.computeIfAbsent(tagName, unused -> new ArrayList<>()).add(folder);
+                }
+            }
+        } finally {
+            CommandMetrics.endFolderRefresh();
         }
     }
 
@@ -557,5 +704,6 @@ public class ModelManager implements Model {
                 .map(f -> new SidebarFolderPrefs(f.getQueryTags()))
                 .toList();
         userPrefs.setSavedSidebarFolders(saved);
+        version++;
     }
 }
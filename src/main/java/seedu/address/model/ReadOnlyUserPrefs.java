@@ -16,4 +16,8 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookFilePath();
 
     List<SidebarFolderPrefs> getSavedSidebarFolders();
+
+    int getUndoHistoryDepth();
+
+    long getUndoHistoryMaxBytes();
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -24,6 +25,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     @JsonProperty("savedSidebarFolders")
     private List<SidebarFolderPrefs> savedSidebarFolders = new ArrayList<>();
 
+    private int undoHistoryDepth = CommandHistory.DEFAULT_MAX_DEPTH;
+    private long undoHistoryMaxBytes = CommandHistory.DEFAULT_MAX_BYTES;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -45,6 +49,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setSavedSidebarFolders(newUserPrefs.getSavedSidebarFolders());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -65,6 +71,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth > 0, "Undo history depth must be positive.");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        checkArgument(undoHistoryMaxBytes > 0, "Undo history memory budget must be positive.");
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,12 +102,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryDepth, undoHistoryMaxBytes);
     }
 
     @Override
@@ -91,6 +117,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history : " + undoHistoryDepth + " commands, " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
@@ -12,50 +12,43 @@ import seedu.address.commons.util.ToStringBuilder;
  *
  * Defensive behaviors:
  * 1) Ignores blank keywords.
- * 2) Null-safe field access.
+ * 2) Keywords are lower-cased once, and matched against the cached {@link PersonSearchKeys} of each person.
  */
 public final class ClientMatchesPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchTerms;
 
     /**
      * @param keywords list of search keywords (non-null). Caller ensures tokens are trimmed/lowercased.
      */
     public ClientMatchesPredicate(List<String> keywords) {
         this.keywords = Objects.requireNonNull(keywords);
+        this.searchTerms = keywords.stream()
+                .filter(kw -> !kw.isBlank())
+                .map(String::toLowerCase)
+                .toList();
+    }
+
+    /**
+     * Returns the non-blank keywords of this predicate, lower-cased as they are matched.
+     */
+    public List<String> getSearchTerms() {
+        return searchTerms;
     }
 
     @Override
     public boolean test(Person person) {
         Objects.requireNonNull(person);
 
-        if (keywords.isEmpty()) {
-            return false;
-        }
-
-        final String name = safeLower(person.getName() == null ? null : person.getName().toString());
-        final String phone = safeLower(person.getPhone() == null ? null : person.getPhone().toString());
-        final String email = safeLower(person.getEmail() == null ? null : person.getEmail().toString());
-
-        for (String kw : keywords) {
-            if (kw.isBlank()) {
-                continue;
-            }
-            final String k = kw.toLowerCase();
-            if (contains(name, k) || contains(phone, k) || contains(email, k)) {
+        final PersonSearchKeys keys = person.getSearchKeys();
+        for (String term : searchTerms) {
+            if (keys.anyContains(term)) {
                 return true;
             }
         }
         return false;
     }
 
-    private static boolean contains(String field, String kw) {
-        return field != null && !kw.isEmpty() && field.contains(kw);
-    }
-
-    private static String safeLower(String s) {
-        return s == null ? null : s.toLowerCase();
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
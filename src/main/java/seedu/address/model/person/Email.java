@@ -2,7 +2,9 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.ValidationConstants.isPrintableAscii;
+
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's email in the address book.
@@ -33,6 +35,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -51,10 +54,9 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-
         return test.length() <= MAX_LENGTH
-                && test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX);
+                && isPrintableAscii(test)
+                && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
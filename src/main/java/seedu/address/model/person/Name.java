@@ -2,7 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.ValidationConstants.isAsciiLetter;
 
 /**
  * Represents a Person's name in the address book.
@@ -23,6 +23,7 @@ public class Name {
     public static final int MAX_LENGTH = 100;
     private static final String ALLOWED_FIRST_CHAR_CLASS = "[A-Za-z(),/\\.@\\-']";
     private static final String ALLOWED_REST_CLASS = "[A-Za-z(),/\\.@\\-' ]";
+    private static final String ALLOWED_SPECIAL_CHARACTERS = "(),/.@-'";
 
     public static final String VALIDATION_REGEX =
             "^" + ALLOWED_FIRST_CHAR_CLASS + ALLOWED_REST_CLASS + "*$";
@@ -44,9 +45,17 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.length() <= MAX_LENGTH
-                && test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX);
+        // equivalent to matching VALIDATION_REGEX, whose character classes are all printable ASCII
+        if (test.isEmpty() || test.length() > MAX_LENGTH || test.charAt(0) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiLetter(c) && c != ' ' && ALLOWED_SPECIAL_CHARACTERS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -26,7 +25,12 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Derived values, computed once since persons are immutable
+    private final PersonIdentity identity;
+    private final PersonSearchKeys searchKeys;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -44,7 +48,11 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.identity = new PersonIdentity(name.fullName, phone.value);
+        this.searchKeys = new PersonSearchKeys(name.fullName, phone.value, email.value);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hash = Objects.hash(name, phone, email, address, this.tags);
     }
 
     public Name getName() {
@@ -68,7 +76,21 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns the identity of this person, as compared by {@link #isSamePerson(Person)}.
+     */
+    public PersonIdentity getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Returns the lower-cased searchable fields of this person.
+     */
+    public PersonSearchKeys getSearchKeys() {
+        return searchKeys;
     }
 
     /**
@@ -81,8 +103,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().toString().equalsIgnoreCase(getName().toString())
-                && otherPerson.getPhone().equals(getPhone());
+                && otherPerson.identity.equals(identity);
     }
 
     /**
@@ -101,7 +122,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -110,8 +132,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hash;
     }
 
     @Override
@@ -136,11 +157,8 @@ public class Person {
         Phone copiedPhone = new Phone(phone.toString());
         Email copiedEmail = new Email(email.toString());
         Address copiedAddress = new Address(address.toString());
-        Set<Tag> copiedTags = new HashSet<>();
-        for (Tag tag : tags) {
-            copiedTags.add(new Tag(tag.tagName));
-        }
-        return new Person(copiedName, copiedPhone, copiedEmail, copiedAddress, copiedTags);
+        // tags are interned and immutable, so they are shared rather than copied
+        return new Person(copiedName, copiedPhone, copiedEmail, copiedAddress, tags);
     }
 
 }
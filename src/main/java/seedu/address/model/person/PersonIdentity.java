@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the identity of a {@code Person}, i.e. the fields compared by {@link Person#isSamePerson(Person)}.
+ * Two persons have equal identities if and only if they are the same person, which allows identities to be used as
+ * keys in hash-based collections.
+ * Guarantees: immutable; name is case-folded.
+ */
+public final class PersonIdentity {
+
+    private final String foldedName;
+    private final String phone;
+    private final int hash;
+
+    /**
+     * Constructs a {@code PersonIdentity} from the raw name and phone values.
+     */
+    public PersonIdentity(String name, String phone) {
+        requireNonNull(name);
+        requireNonNull(phone);
+        this.foldedName = name.toLowerCase();
+        this.phone = phone;
+        this.hash = 31 * foldedName.hashCode() + phone.hashCode();
+    }
+
+    /**
+     * Returns the identity of the given {@code person}.
+     */
+    public static PersonIdentity of(Person person) {
+        requireNonNull(person);
+        return person.getIdentity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity otherIdentity)) {
+            return false;
+        }
+
+        return hash == otherIdentity.hash
+                && foldedName.equals(otherIdentity.foldedName)
+                && phone.equals(otherIdentity.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", foldedName)
+                .add("phone", phone)
+                .toString();
+    }
+}
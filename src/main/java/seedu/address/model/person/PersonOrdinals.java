@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Assigns small, stable integer ordinals to persons so that indexes can refer to them with {@link PostingList}s.
+ * Persons are tracked by reference, and the ordinals of removed persons are reused.
+ */
+class PersonOrdinals {
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * Assigns an ordinal to {@code person} and returns it.
+     */
+    int assign(Person person) {
+        int ordinal = freeOrdinals.isEmpty() ? personsByOrdinal.size() : freeOrdinals.pop();
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Releases the ordinal of {@code person} and returns it, or returns -1 if that exact instance has no ordinal.
+     */
+    int release(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return -1;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the person with the given {@code ordinal}.
+     */
+    Person get(int ordinal) {
+        return personsByOrdinal.get(ordinal);
+    }
+
+    /**
+     * Calls {@code action} with every assigned ordinal.
+     */
+    void forEach(IntConsumer action) {
+        ordinals.values().forEach(action::accept);
+    }
+
+    void clear() {
+        ordinals.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+    }
+}
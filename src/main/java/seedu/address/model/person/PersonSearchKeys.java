@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds the lower-cased forms of the searchable fields of a {@code Person}, computed once when the person is created
+ * so that keyword searches can match against them without allocating.
+ * Guarantees: immutable; every key is lower-cased.
+ */
+public final class PersonSearchKeys {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+
+    /**
+     * Constructs the search keys from the raw name, phone and email values.
+     */
+    public PersonSearchKeys(String name, String phone, String email) {
+        requireNonNull(name);
+        requireNonNull(phone);
+        requireNonNull(email);
+        this.name = name.toLowerCase();
+        this.phone = phone.toLowerCase();
+        this.email = email.toLowerCase();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns true if any key contains {@code term}, which must be lower-cased.
+     */
+    public boolean anyContains(String term) {
+        return name.contains(term) || phone.contains(term) || email.contains(term);
+    }
+}
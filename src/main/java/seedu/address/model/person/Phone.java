@@ -2,7 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.ValidationConstants.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -22,6 +22,8 @@ public class Phone {
      * The phone number should only contain digits.
      */
     public static final String VALIDATION_REGEX = "\\d{3,15}";
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 15;
     public final String value;
 
     /**
@@ -39,9 +41,16 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-
-        return test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX);
+        // equivalent to matching VALIDATION_REGEX
+        if (test.length() < MIN_LENGTH || test.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
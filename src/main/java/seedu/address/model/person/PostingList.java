@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * A growable set of person ordinals, kept as a sorted {@code int} array.
+ * Used by {@link TagIndex} to record which persons carry a tag.
+ */
+class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ordinals = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code ordinal} to this list. Does nothing if it is already present.
+     */
+    void add(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+        ordinals[insertAt] = ordinal;
+        size++;
+    }
+
+    /**
+     * Removes {@code ordinal} from this list. Does nothing if it is absent.
+     */
+    void remove(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+        size--;
+    }
+
+    boolean contains(int ordinal) {
+        return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ordinal at position {@code i} of this list, in ascending order.
+     */
+    int get(int i) {
+        return ordinals[i];
+    }
+}
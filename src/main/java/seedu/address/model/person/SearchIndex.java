@@ -0,0 +1,182 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A trigram index over the lower-cased name, phone and email of persons, used to answer substring searches.
+ * Every run of {@value #GRAM_LENGTH} consecutive characters in a field is a trigram, and each trigram keeps a
+ * {@link PostingList} of the persons having it. A field can only contain a search term if it has every trigram of
+ * that term, so intersecting the posting lists of those trigrams yields a small set of candidates that is then
+ * verified against the term itself. Terms shorter than a trigram cannot be looked up and match every person as a
+ * candidate.
+ *
+ * The index is maintained by {@link UniquePersonList} and tracks persons by reference.
+ */
+public class SearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private long version;
+
+    /**
+     * Indexes the searchable fields of {@code person}.
+     */
+    void add(Person person) {
+        int ordinal = ordinals.assign(person);
+        for (long gram : gramsOf(person)) {
+            postings.computeIfAbsent(gram, unused -> new PostingList()).add(ordinal);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if that exact instance is not indexed.
+     */
+    void remove(Person person) {
+        int ordinal = ordinals.release(person);
+        if (ordinal < 0) {
+            return;
+        }
+        for (long gram : gramsOf(person)) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(Collection<Person> persons) {
+        ordinals.clear();
+        postings.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the indexed persons whose name, phone or email may contain any of {@code terms}, in no particular
+     * order. Every person that does contain one of the terms is returned, but some returned persons may not.
+     *
+     * @param terms lower-cased, non-blank search terms.
+     */
+    public List<Person> getCandidates(Collection<String> terms) {
+        requireNonNull(terms);
+        List<Person> candidates = new ArrayList<>();
+        candidatesOf(terms).stream().forEach(ordinal -> candidates.add(ordinals.get(ordinal)));
+        return candidates;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from the persons currently matching
+     * {@code terms}, testing {@code predicate} only against the candidates found in the index. Once the index
+     * changes, the returned predicate falls back to {@code predicate}. The index must be updated before the
+     * list being filtered changes, so that the predicate never answers for a changed person from its stale snapshot.
+     *
+     * @param terms lower-cased, non-blank search terms.
+     * @param predicate predicate that is true exactly for persons whose name, phone or email contains a term.
+     */
+    public Predicate<Person> toIndexedPredicate(Collection<String> terms, Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        for (String term : terms) {
+            if (term.length() < GRAM_LENGTH) {
+                return predicate; // every person is a candidate, so the index cannot help
+            }
+        }
+
+        long snapshotVersion = version;
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : getCandidates(terms)) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return person -> snapshotVersion == version ? matches.contains(person) : predicate.test(person);
+    }
+
+    /**
+     * Returns the ordinals of the persons that may contain any of {@code terms}.
+     */
+    private BitSet candidatesOf(Collection<String> terms) {
+        BitSet candidates = new BitSet();
+        for (String term : terms) {
+            if (term.length() < GRAM_LENGTH) {
+                ordinals.forEach(candidates::set);
+                return candidates;
+            }
+            addCandidatesOf(term, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Adds to {@code candidates} the ordinals of the persons having every trigram of {@code term}.
+     */
+    private void addCandidatesOf(String term, BitSet candidates) {
+        Set<Long> grams = new HashSet<>();
+        addGrams(term, grams);
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (long gram : grams) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) {
+                return;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        // Walk the shortest posting list and probe the others.
+        PostingList shortest = lists.get(0);
+        for (int i = 0; i < shortest.size(); i++) {
+            int ordinal = shortest.get(i);
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(ordinal);
+            }
+            if (inAll) {
+                candidates.set(ordinal);
+            }
+        }
+    }
+
+    private static Set<Long> gramsOf(Person person) {
+        PersonSearchKeys keys = person.getSearchKeys();
+        Set<Long> grams = new HashSet<>();
+        addGrams(keys.getName(), grams);
+        addGrams(keys.getPhone(), grams);
+        addGrams(keys.getEmail(), grams);
+        return grams;
+    }
+
+    /**
+     * Adds every trigram of {@code text} to {@code grams}, each packed into a {@code long}.
+     */
+    private static void addGrams(String text, Set<Long> grams) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from tag names to the persons carrying them.
+ * Every indexed person is given a stable ordinal by {@link PersonOrdinals}, and each tag keeps a {@link PostingList}
+ * of the ordinals of the persons that have it. Queries over several tags are answered by intersecting posting lists,
+ * so their cost depends on the number of matches rather than on the number of persons.
+ *
+ * The index is maintained by {@link UniquePersonList} and tracks persons by reference.
+ */
+public class TagIndex {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private long version;
+
+    /**
+     * Indexes {@code person} under each of its tags.
+     */
+    void add(Person person) {
+        int ordinal = ordinals.assign(person);
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag.tagName, unused -> new PostingList()).add(ordinal);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if that exact instance is not indexed.
+     */
+    void remove(Person person) {
+        int ordinal = ordinals.release(person);
+        if (ordinal < 0) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            PostingList posting = postings.get(tag.tagName);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(tag.tagName);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(Collection<Person> persons) {
+        ordinals.clear();
+        postings.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the number of indexed persons having every tag named in {@code tagNames}.
+     */
+    public int countPersonsWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        if (tagNames.size() == 1) {
+            PostingList posting = postings.get(tagNames.iterator().next());
+            return posting == null ? 0 : posting.size();
+        }
+        int[] count = new int[1];
+        forEachMatch(tagNames, unused -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Returns the indexed persons having every tag named in {@code tagNames}, in no particular order.
+     */
+    public List<Person> getPersonsWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        List<Person> matches = new ArrayList<>();
+        forEachMatch(tagNames, ordinal -> matches.add(ordinals.get(ordinal)));
+        return matches;
+    }
+
+    /**
+     * Returns the names of all tags carried by at least one indexed person.
+     */
+    public Set<String> getTagNames() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from the persons currently matching
+     * {@code tagNames}. Once the index changes, the returned predicate falls back to {@code predicate}. The index must
+     * be updated before the list being filtered changes, so that the predicate never answers for a changed person from
+     * its stale snapshot.
+     *
+     * @param tagNames names of the tags a person must all have to match.
+     * @param predicate predicate that tests exactly the same condition as {@code tagNames}.
+     */
+    public Predicate<Person> toIndexedPredicate(Collection<String> tagNames, Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        long snapshotVersion = version;
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(getPersonsWithAllTags(tagNames));
+        return person -> snapshotVersion == version ? matches.contains(person) : predicate.test(person);
+    }
+
+    /**
+     * Calls {@code action} with the ordinal of every indexed person having all tags named in {@code tagNames}.
+     */
+    private void forEachMatch(Collection<String> tagNames, IntConsumer action) {
+        if (tagNames.isEmpty()) {
+            ordinals.forEach(action);
+            return;
+        }
+
+        List<PostingList> lists = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            PostingList posting = postings.get(tagName);
+            if (posting == null) {
+                return;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        // Walk the shortest posting list and probe the others.
+        PostingList shortest = lists.get(0);
+        for (int i = 0; i < shortest.size(); i++) {
+            int ordinal = shortest.get(i);
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(ordinal);
+            }
+            if (inAll) {
+                action.accept(ordinal);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -21,6 +22,13 @@ public class TagMatchesAllPredicate implements Predicate<Person> {
         this.required = Objects.requireNonNull(required);
     }
 
+    /**
+     * Returns the names of the tags a person must all have to satisfy this predicate.
+     */
+    public List<String> getRequiredTagNames() {
+        return required.stream().map(tag -> tag.tagName).toList();
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getTags().containsAll(required);
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identities of all persons in the list are additionally kept in a hash set so that duplicate detection does not
+ * require a scan of the list. The set is concurrent, so {@link #containsIdentity(PersonIdentity)} may be called from
+ * any thread, such as one building live previews, while the list is modified. Their tags are kept in a
+ * {@link TagIndex} and their searchable fields in a {@link SearchIndex} so that tag and keyword queries do not require
+ * a scan either. The indexes are always updated before the list: a filtered view of the list tests changed persons as
+ * soon as the list changes, and the predicates built from the indexes must already know of the change by then.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,6 +37,9 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<PersonIdentity> identities = ConcurrentHashMap.newKeySet();
+    private final TagIndex tagIndex = new TagIndex();
+    private final SearchIndex searchIndex = new SearchIndex();
 
     public UniquePersonList() {}
 
@@ -54,7 +67,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return containsIdentity(PersonIdentity.of(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person with the given {@code identity}.
+     * Unlike the other methods of this list, this may be called from any thread.
+     */
+    public boolean containsIdentity(PersonIdentity identity) {
+        requireNonNull(identity);
+        return identities.contains(identity);
     }
 
     /**
@@ -63,9 +85,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(PersonIdentity.of(toAdd))) {
             throw new DuplicatePersonException();
         }
+        tagIndex.add(toAdd);
+        searchIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -75,9 +99,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void insert(int index, Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        PersonIdentity identity = PersonIdentity.of(toAdd);
+        if (identities.contains(identity)) {
             throw new DuplicatePersonException();
         }
+        identities.add(identity);
+        tagIndex.add(toAdd);
+        searchIndex.add(toAdd);
         internalList.add(index, toAdd);
     }
 
@@ -98,6 +126,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person replaced = internalList.get(index);
+        identities.remove(PersonIdentity.of(target));
+        identities.add(PersonIdentity.of(editedPerson));
+        tagIndex.remove(replaced);
+        tagIndex.add(editedPerson);
+        searchIndex.remove(replaced);
+        searchIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -107,13 +142,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.get(index);
+        identities.remove(PersonIdentity.of(removed));
+        tagIndex.remove(removed);
+        searchIndex.remove(removed);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        replaceIdentities(replacement.identities);
+        tagIndex.reset(replacement.internalList);
+        searchIndex.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -123,10 +167,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Set<PersonIdentity> newIdentities = identitiesOf(persons);
+        if (newIdentities == null) {
             throw new DuplicatePersonException();
         }
 
+        replaceIdentities(newIdentities);
+        tagIndex.reset(persons);
+        searchIndex.reset(persons);
         internalList.setAll(persons);
     }
 
@@ -137,6 +185,20 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the index of the tags carried by the persons in this list.
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the index of the searchable fields of the persons in this list.
+     */
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns size of this list.
      */
@@ -173,17 +235,32 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Replaces the identities with {@code newIdentities}. Identities in both are never removed, so concurrent
+     * readers do not see a person kept by the replacement as missing.
+     */
+    private void replaceIdentities(Set<PersonIdentity> newIdentities) {
+        identities.retainAll(newIdentities);
+        identities.addAll(newIdentities);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        return identitiesOf(persons) != null;
+    }
+
+    /**
+     * Returns the identities of {@code persons}, or null if {@code persons} contains duplicate persons.
+     */
+    private static Set<PersonIdentity> identitiesOf(List<Person> persons) {
+        Set<PersonIdentity> seen = new HashSet<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        for (Person person : persons) {
+            if (!seen.add(PersonIdentity.of(person))) {
+                return null;
             }
         }
-        return true;
+        return seen;
     }
 }
@@ -0,0 +1,143 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Counts the persons having each tag of several declared features in a single pass over a list of persons.
+ *
+ * Every tag of every feature is given a slot in one {@code int[]} of counters, the tags of a feature taking
+ * consecutive slots. A lookup table maps each tag to the slots of all features declaring it, so each tag of each
+ * person costs one lookup however many features there are. Lists of more than {@value #PARALLEL_THRESHOLD} persons
+ * are split into chunks counted on the common fork-join pool, and the counters of the chunks are summed.
+ */
+public class FeatureHistogram {
+
+    /** Number of persons below which a list is counted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final List<FeatureTag> features = new ArrayList<>();
+    private final List<List<Tag>> tagsOfFeatures = new ArrayList<>();
+    private final Map<Tag, int[]> slotsByTag = new HashMap<>();
+    private final int slotCount;
+
+    /**
+     * Creates a histogram of the features in {@code bizTags}, keeping its iteration order.
+     */
+    public FeatureHistogram(Map<FeatureTag, ? extends Collection<Tag>> bizTags) {
+        requireNonNull(bizTags);
+        int slot = 0;
+        for (Map.Entry<FeatureTag, ? extends Collection<Tag>> entry : bizTags.entrySet()) {
+            List<Tag> tags = List.copyOf(entry.getValue());
+            features.add(entry.getKey());
+            tagsOfFeatures.add(tags);
+            for (Tag tag : tags) {
+                int[] slots = slotsByTag.get(tag);
+                slots = slots == null ? new int[1] : Arrays.copyOf(slots, slots.length + 1);
+                slots[slots.length - 1] = slot++;
+                slotsByTag.put(tag, slots);
+            }
+        }
+        slotCount = slot;
+    }
+
+    /**
+     * Returns the stats of every feature in {@code bizTags}, in its iteration order, over {@code persons}.
+     */
+    public static List<FeatureStats> count(Map<FeatureTag, ? extends Collection<Tag>> bizTags,
+            List<Person> persons) {
+        return new FeatureHistogram(bizTags).toStats(persons);
+    }
+
+    /**
+     * Returns the stats of every feature of this histogram over {@code persons}.
+     */
+    public List<FeatureStats> toStats(List<Person> persons) {
+        int[] counts = countSlots(persons);
+        List<FeatureStats> stats = new ArrayList<>(features.size());
+        int firstSlot = 0;
+        for (int f = 0; f < features.size(); f++) {
+            List<Tag> tags = tagsOfFeatures.get(f);
+            int[] featureCounts = Arrays.copyOfRange(counts, firstSlot, firstSlot + tags.size());
+            stats.add(new FeatureStats(features.get(f), tags, featureCounts, persons.size()));
+            firstSlot += tags.size();
+        }
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Returns the number of {@code persons} having the tag of each slot.
+     */
+    int[] countSlots(List<Person> persons) {
+        requireNonNull(persons);
+        if (slotCount == 0) {
+            return new int[0];
+        }
+        List<Person> indexable = persons instanceof RandomAccess ? persons : new ArrayList<>(persons);
+        if (indexable.size() <= PARALLEL_THRESHOLD) {
+            return countRange(indexable, 0, indexable.size());
+        }
+        return ForkJoinPool.commonPool().invoke(new CountTask(indexable, 0, indexable.size()));
+    }
+
+    private int[] countRange(List<Person> persons, int from, int to) {
+        int[] counts = new int[slotCount];
+        for (int i = from; i < to; i++) {
+            for (Tag tag : persons.get(i).getTags()) {
+                int[] slots = slotsByTag.get(tag);
+                if (slots == null) {
+                    continue;
+                }
+                for (int slot : slots) {
+                    counts[slot]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts a range of persons, splitting it in halves until it is small enough to count directly.
+     */
+    private class CountTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Person> persons;
+        private final int from;
+        private final int to;
+
+        CountTask(List<Person> persons, int from, int to) {
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return countRange(persons, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(persons, from, mid);
+            left.fork();
+            int[] counts = new CountTask(persons, mid, to).compute();
+            int[] leftCounts = left.join();
+            for (int slot = 0; slot < counts.length; slot++) {
+                counts[slot] += leftCounts[slot];
+            }
+            return counts;
+        }
+    }
+}
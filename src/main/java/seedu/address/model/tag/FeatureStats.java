@@ -0,0 +1,138 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * The number of persons having each tag of a declared feature, with the total, mean, maximum and minimum of those
+ * numbers. Immutable.
+ */
+public class FeatureStats {
+
+    private final FeatureTag feature;
+    private final List<Tag> tags;
+    private final int[] counts;
+    private final int total;
+    private final int maxCount;
+    private final List<Tag> maxTags;
+    private final int minCount;
+    private final List<Tag> minTags;
+
+    /**
+     * Creates the stats of {@code feature}, whose {@code tags} are each had by the number of persons at the same
+     * position in {@code counts}, out of {@code personCount} persons.
+     */
+    public FeatureStats(FeatureTag feature, List<Tag> tags, int[] counts, int personCount) {
+        requireNonNull(feature);
+        requireNonNull(tags);
+        if (tags.size() != counts.length) {
+            throw new IllegalArgumentException("Each tag must have exactly one count");
+        }
+        this.feature = feature;
+        this.tags = List.copyOf(tags);
+        this.counts = counts.clone();
+
+        // Tags tied for the maximum or minimum are all kept. The maximum starts from 0 and the minimum from the
+        // number of persons, so tags had by nobody or by everybody tie with those bounds.
+        int sum = 0;
+        int max = 0;
+        int min = personCount;
+        List<Tag> atMax = new ArrayList<>();
+        List<Tag> atMin = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            sum += count;
+            if (count == max) {
+                atMax.add(tags.get(i));
+            } else if (count > max) {
+                max = count;
+                atMax.clear();
+                atMax.add(tags.get(i));
+            }
+            if (count == min) {
+                atMin.add(tags.get(i));
+            } else if (count < min) {
+                min = count;
+                atMin.clear();
+                atMin.add(tags.get(i));
+            }
+        }
+        this.total = sum;
+        this.maxCount = max;
+        this.maxTags = Collections.unmodifiableList(atMax);
+        this.minCount = min;
+        this.minTags = Collections.unmodifiableList(atMin);
+    }
+
+    /**
+     * Returns the stats of every feature in {@code bizTags}, in its iteration order, asking {@code counter} for the
+     * number of persons having each tag.
+     */
+    public static List<FeatureStats> of(Map<FeatureTag, ? extends Collection<Tag>> bizTags,
+            ToIntFunction<Tag> counter, int personCount) {
+        List<FeatureStats> stats = new ArrayList<>(bizTags.size());
+        for (Map.Entry<FeatureTag, ? extends Collection<Tag>> entry : bizTags.entrySet()) {
+            List<Tag> tags = new ArrayList<>(entry.getValue());
+            int[] counts = new int[tags.size()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = counter.applyAsInt(tags.get(i));
+            }
+            stats.add(new FeatureStats(entry.getKey(), tags, counts, personCount));
+        }
+        return Collections.unmodifiableList(stats);
+    }
+
+    public FeatureTag getFeature() {
+        return feature;
+    }
+
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the number of persons having the tag at {@code index} in {@link #getTags()}.
+     */
+    public int getCount(int index) {
+        return counts[index];
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the mean number of persons per tag, or -1 if the feature has no tags.
+     */
+    public float getMean() {
+        return tags.isEmpty() ? -1 : (float) total / tags.size();
+    }
+
+    public int getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * Returns the tags had by {@link #getMaxCount()} persons, in the order of {@link #getTags()}.
+     */
+    public List<Tag> getMaxTags() {
+        return maxTags;
+    }
+
+    public int getMinCount() {
+        return minCount;
+    }
+
+    /**
+     * Returns the tags had by {@link #getMinCount()} persons, in the order of {@link #getTags()}.
+     */
+    public List<Tag> getMinTags() {
+        return minTags;
+    }
+}
@@ -2,10 +2,12 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.ValidationConstants.isAsciiLetterOrDigit;
 
 /**
  * Represents a Tag in the address book.
+ * Every tag name is registered with the {@link TagRegistry}, which gives it a dense integer id; use {@link #of(String)}
+ * to obtain the shared instance of a tag instead of a new one.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
@@ -18,6 +20,8 @@ public class Tag {
     public static final int MAX_LENGTH = 40;
 
     public final String tagName;
+    private final int hash;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
@@ -29,15 +33,61 @@ public class Tag {
         String normalized = tagName.trim().toUpperCase();
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = normalized;
+        this.hash = hashOf(normalized);
+        this.id = TagRegistry.getInstance().register(normalized);
+    }
+
+    private Tag(String normalizedName, int id) {
+        this.tagName = normalizedName;
+        this.hash = hashOf(normalizedName);
+        this.id = id;
+    }
+
+    /**
+     * Creates the canonical {@code Tag} of a validated and normalized name, with the id given to it by the
+     * {@link TagRegistry}. Only called by the registry, while it registers the name.
+     */
+    static Tag newCanonical(String normalizedName, int id) {
+        return new Tag(normalizedName, id);
+    }
+
+    private static int hashOf(String normalizedName) {
+        return normalizedName.toLowerCase().hashCode(); // same value as before caching, so set ordering is kept
+    }
+
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return TagRegistry.getInstance().intern(tagName);
+    }
+
+    /**
+     * Returns the id assigned to this tag's name by the {@link TagRegistry}.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag names.
      */
     public static boolean isValidTagName(String test) {
-        return test.length() <= MAX_LENGTH
-                && test.matches(VALIDATION_REGEX)
-                && test.matches(PRINTABLE_ASCII_REGEX);
+        // equivalent to matching VALIDATION_REGEX, whose character classes are all printable ASCII
+        int length = test.length();
+        if (length == 0 || length > MAX_LENGTH
+                || !isAsciiLetterOrDigit(test.charAt(0)) || !isAsciiLetterOrDigit(test.charAt(length - 1))) {
+            return false;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -52,12 +102,12 @@ public class Tag {
         }
 
         Tag o = (Tag) other;
-        return this.tagName.equals(o.tagName);
+        return id == o.id;
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return hash;
     }
 
     /**
@@ -0,0 +1,103 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns {@code Tag}s so that every distinct tag name is held by a single canonical instance, and assigns each
+ * tag name a dense integer id in order of first use.
+ * Ids are never reused, so they can be stored in place of tags, e.g. by {@link TagSet}.
+ *
+ * Lookups are lock-free; registering a new tag name is synchronized.
+ */
+public final class TagRegistry {
+
+    private static final TagRegistry INSTANCE = new TagRegistry();
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<String, Tag> tagsByRawName = new ConcurrentHashMap<>();
+    private volatile Tag[] tagsById = new Tag[INITIAL_CAPACITY];
+    private int size; // guarded by this
+
+    private TagRegistry() {}
+
+    public static TagRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, creating it if it does not exist yet.
+     *
+     * @param tagName A valid tag name.
+     */
+    public Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByRawName.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        Tag canonical = get(new Tag(tagName).getId()); // validates tagName
+        tagsByRawName.putIfAbsent(tagName, canonical);
+        return canonical;
+    }
+
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName} if that name has been registered, without registering
+     * it otherwise. Names that are not valid tag names are never registered.
+     */
+    public Optional<Tag> lookup(String tagName) {
+        requireNonNull(tagName);
+        Integer id = idsByName.get(tagName.trim().toUpperCase());
+        return id == null ? Optional.empty() : Optional.of(get(id));
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given {@code id}.
+     *
+     * @throws IllegalArgumentException if no tag has been given that id.
+     */
+    public Tag get(int id) {
+        Tag[] tags = tagsById;
+        if (id < 0 || id >= tags.length || tags[id] == null) {
+            throw new IllegalArgumentException("Unknown tag id: " + id);
+        }
+        return tags[id];
+    }
+
+    /**
+     * Returns the number of distinct tag names registered so far.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of {@code normalizedName}, creating its canonical {@code Tag} if the name is new.
+     * Called by the {@code Tag} constructor once the name has been validated and normalized.
+     */
+    int register(String normalizedName) {
+        Integer id = idsByName.get(normalizedName);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = idsByName.get(normalizedName);
+            if (id != null) {
+                return id;
+            }
+            Tag[] tags = tagsById;
+            if (size == tags.length) {
+                tags = Arrays.copyOf(tags, size * 2);
+            }
+            tags[size] = Tag.newCanonical(normalizedName, size);
+            tagsById = tags; // publish the fully built tag before its id
+            idsByName.put(normalizedName, size);
+            return size++;
+        }
+    }
+}
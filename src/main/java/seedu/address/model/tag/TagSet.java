@@ -0,0 +1,143 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as the sorted ids assigned by {@link TagRegistry}.
+ * Iteration yields the canonical tag instances in the order their names were first registered. Membership tests are
+ * binary searches, and containment and equality between two {@code TagSet}s are merges of their id arrays.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private final int[] ids;
+    private final int hash;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+        int h = 0;
+        for (int id : ids) {
+            h += TagRegistry.getInstance().get(id).hashCode();
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Returns a {@code TagSet} holding the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet tagSet) {
+            return tagSet;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = tag.getId();
+        }
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return new TagSet(distinct == ids.length ? ids : Arrays.copyOf(ids, distinct));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag tag && Arrays.binarySearch(ids, tag.getId()) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof TagSet other)) {
+            return super.containsAll(c);
+        }
+        int i = 0;
+        for (int id : other.ids) {
+            while (i < ids.length && ids[i] < id) {
+                i++;
+            }
+            if (i == ids.length || ids[i] != id) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return TagRegistry.getInstance().get(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet otherTagSet) {
+            return hash == otherTagSet.hash && Arrays.equals(ids, otherTagSet.ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
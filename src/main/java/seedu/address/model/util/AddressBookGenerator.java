@@ -0,0 +1,209 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic address books of any size for load tests and benchmarks.
+ *
+ * Names, emails and addresses are drawn from the same kind of values as {@link SampleDataUtil}. Phone numbers are
+ * sequential, which keeps every generated person distinct. The number of tags per person is uniform between a minimum
+ * and a maximum, and tags are drawn from a fixed number of distinct tags with a Zipfian distribution: the tag of rank
+ * {@code k} is drawn with a probability proportional to {@code 1 / k^skew}, so a skew of 0 draws tags uniformly and
+ * larger skews concentrate persons in the most common tags.
+ *
+ * Generation is deterministic: the same settings and seed always generate the same persons.
+ */
+public class AddressBookGenerator {
+
+    public static final int DEFAULT_TAG_COUNT = 50;
+    public static final int DEFAULT_MIN_TAGS_PER_PERSON = 0;
+    public static final int DEFAULT_MAX_TAGS_PER_PERSON = 3;
+    public static final double DEFAULT_SKEW = 1.0;
+    public static final long DEFAULT_SEED = 42;
+
+    /** Largest number of persons that can be given distinct 8-digit phone numbers. */
+    public static final int MAX_SIZE = 20_000_000;
+
+    private static final int FIRST_PHONE = 80_000_000;
+    private static final int MAX_TAG_DRAWS = 32;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei Ling", "Wei Jie", "Siti", "Arjun",
+        "Priya", "Jun Hao", "Nurul", "Ethan", "Chloe", "Marcus", "Hui Min", "Rajesh", "Aisyah", "Daniel"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong",
+        "Goh", "Chua", "Kumar", "Rahman", "Lee", "Teo", "Ong", "Koh", "Pillai", "O'Brien"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street", "Serangoon Gardens Street",
+        "Tampines Street", "Aljunied Street", "Jurong West Ave", "Bedok North Road", "Clementi Ave", "Yishun Ring Road"
+    };
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.example.org", "insure-co.com"};
+    private static final String[] COMMON_TAGS = {
+        "friends", "colleagues", "family", "neighbours", "classmates", "vip", "lead", "prospect", "renewal-due",
+        "life", "health", "motor", "travel", "home", "investment"
+    };
+
+    private final int size;
+    private int tagCount = DEFAULT_TAG_COUNT;
+    private int minTagsPerPerson = DEFAULT_MIN_TAGS_PER_PERSON;
+    private int maxTagsPerPerson = DEFAULT_MAX_TAGS_PER_PERSON;
+    private double skew = DEFAULT_SKEW;
+    private long seed = DEFAULT_SEED;
+
+    /**
+     * Creates a generator of address books with {@code size} persons and default settings.
+     */
+    public AddressBookGenerator(int size) {
+        checkArgument(size >= 0 && size <= MAX_SIZE, "Size must be between 0 and " + MAX_SIZE);
+        this.size = size;
+    }
+
+    /**
+     * Sets the number of distinct tags that persons are tagged with.
+     */
+    public AddressBookGenerator withTagCount(int tagCount) {
+        checkArgument(tagCount > 0, "Tag count must be positive");
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    /**
+     * Sets the minimum and maximum number of tags of each person.
+     */
+    public AddressBookGenerator withTagsPerPerson(int min, int max) {
+        checkArgument(0 <= min && min <= max && max <= Person.MAX_TAGS_PER_PERSON,
+                "Tags per person must satisfy 0 <= min <= max <= " + Person.MAX_TAGS_PER_PERSON);
+        this.minTagsPerPerson = min;
+        this.maxTagsPerPerson = max;
+        return this;
+    }
+
+    /**
+     * Sets the exponent of the Zipfian distribution of tags; 0 draws tags uniformly.
+     */
+    public AddressBookGenerator withSkew(double skew) {
+        checkArgument(skew >= 0, "Skew must not be negative");
+        this.skew = skew;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random choices, so that different seeds generate different books.
+     */
+    public AddressBookGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Returns the distinct tags persons are tagged with, from the most to the least frequently drawn.
+     */
+    public List<Tag> getTags() {
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int rank = 0; rank < tagCount; rank++) {
+            tags.add(Tag.of(rank < COMMON_TAGS.length ? COMMON_TAGS[rank] : "segment-" + rank));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the generated persons.
+     */
+    public List<Person> generatePersons() {
+        List<Tag> tags = getTags();
+        checkArgument(maxTagsPerPerson <= tags.size(), "Tags per person cannot exceed the tag count");
+        double[] cumulativeWeights = zipfCumulativeWeights(tags.size(), skew);
+        Random random = new Random(seed);
+
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(generatePerson(i, random, tags, cumulativeWeights));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the generated persons.
+     */
+    public AddressBook generate() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons());
+        return addressBook;
+    }
+
+    /**
+     * Returns a person who is distinct from every generated person, as the {@code n}th extra person; extra persons
+     * are distinct from each other too. Useful to add persons to a generated book.
+     */
+    public Person generateExtraPerson(int n) {
+        checkArgument(n >= 0 && size + n < MAX_SIZE, "No more extra persons can be generated");
+        Random random = new Random(seed + size + n);
+        List<Tag> tags = getTags();
+        return generatePerson(size + n, random, tags, zipfCumulativeWeights(tags.size(), skew));
+    }
+
+    private Person generatePerson(int index, Random random, List<Tag> tags, double[] cumulativeWeights) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String emailLocalPart = (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z.]", "") + index;
+        String address = "Blk " + (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)]
+                + " " + (1 + random.nextInt(99)) + ", #" + String.format("%02d-%02d",
+                1 + random.nextInt(30), 1 + random.nextInt(99));
+        int tagsOfPerson = minTagsPerPerson + random.nextInt(maxTagsPerPerson - minTagsPerPerson + 1);
+
+        return new Person(
+                new Name(firstName + " " + lastName),
+                new Phone(String.valueOf(FIRST_PHONE + index)),
+                new Email(emailLocalPart + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]),
+                new Address(address),
+                drawTags(tagsOfPerson, random, tags, cumulativeWeights));
+    }
+
+    /**
+     * Draws {@code count} distinct tags. Once a draw repeats too often, the most frequent tags not drawn yet are
+     * taken instead, which keeps generation fast at high skews.
+     */
+    private static Set<Tag> drawTags(int count, Random random, List<Tag> tags, double[] cumulativeWeights) {
+        Set<Tag> drawn = new HashSet<>();
+        for (int attempt = 0; drawn.size() < count && attempt < MAX_TAG_DRAWS * count; attempt++) {
+            drawn.add(tags.get(drawRank(random, cumulativeWeights)));
+        }
+        for (int rank = 0; drawn.size() < count; rank++) {
+            drawn.add(tags.get(rank));
+        }
+        return drawn;
+    }
+
+    private static int drawRank(Random random, double[] cumulativeWeights) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int pos = Arrays.binarySearch(cumulativeWeights, target);
+        return Math.min(pos >= 0 ? pos + 1 : -pos - 1, cumulativeWeights.length - 1);
+    }
+
+    private static double[] zipfCumulativeWeights(int count, double skew) {
+        double[] cumulative = new double[count];
+        double total = 0;
+        for (int rank = 0; rank < count; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        return cumulative;
+    }
+}
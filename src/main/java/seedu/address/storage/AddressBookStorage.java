@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code addressBook} in any other form this storage keeps the data in, such as an export for other tools.
+     * Called once when the app stops, after the last save. Does nothing by default.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveOnExit(ReadOnlyAddressBook addressBook) throws IOException {}
+
 }
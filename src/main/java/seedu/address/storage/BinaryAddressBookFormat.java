@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact binary format.
+ *
+ * All numbers are big-endian and every string is written as an {@code int} byte length followed by its UTF-8 bytes.
+ * <pre>
+ * header      magic (int), format version (int), tag count (int), person count (int)
+ * tags        the name of each distinct tag; a tag's position in this dictionary is its id in this file
+ * persons     for each person: name, phone, email, address, tag count (int), tag ids (int each)
+ * trailer     CRC32 of all the bytes before it (long)
+ * </pre>
+ * The format is read in one pass over a {@link ByteBuffer} holding the whole file.
+ */
+final class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x45494142; // "EIAB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Data is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted.";
+
+    static final int HEADER_BYTES = 4 * Integer.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format. Does not close {@code out}.
+     */
+    static void write(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        List<Person> persons = source.getPersonList();
+        Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag, tagIds.size());
+            }
+        }
+
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(checked));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(tagIds.size());
+        data.writeInt(persons.size());
+        for (Tag tag : tagIds.keySet()) {
+            writeString(data, tag.tagName);
+        }
+        for (Person person : persons) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(tagIds.get(tag));
+            }
+        }
+        data.flush();
+
+        // the checksum itself is written past the checked stream so that it covers only the bytes before it
+        DataOutputStream trailer = new DataOutputStream(out);
+        trailer.writeLong(checked.getChecksum().getValue());
+        trailer.flush();
+    }
+
+    /**
+     * Reads an address book in the binary format from the remaining bytes of {@code buffer}, checking its persons
+     * as {@link JsonSerializableAddressBook#toModelType()} does.
+     *
+     * @throws IllegalValueException if the bytes are not a valid binary address book, if a stored person violates
+     *     the data constraints, or if there are duplicate persons.
+     */
+    static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        ByteBuffer data = checkedContent(buffer);
+        Tag[] tags;
+        int personCount;
+        try {
+            tags = new Tag[readCount(data)];
+            personCount = readCount(data);
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = Tag.of(readString(data));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            try {
+                persons.add(readPerson(data, tags));
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(String.format(
+                        JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_FORMAT, i, iae.getMessage()), iae);
+            }
+        }
+        if (data.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns true if {@code buffer} starts with the magic number of the binary format.
+     */
+    static boolean hasMagic(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    /**
+     * Verifies the header and checksum of the binary address book in {@code buffer}, and returns a view of its
+     * content positioned just after the magic number and version.
+     */
+    static ByteBuffer checkedContent(ByteBuffer buffer) throws IllegalValueException {
+        if (!hasMagic(buffer) || buffer.remaining() < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = buffer.getInt(buffer.position() + Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        ByteBuffer content = buffer.slice();
+        content.limit(content.limit() - TRAILER_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        if (crc.getValue() != buffer.getLong(buffer.limit() - TRAILER_BYTES)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        content.position(2 * Integer.BYTES);
+        return content;
+    }
+
+    /**
+     * Reads the person starting at the position of {@code data}, resolving tag ids with {@code tags}.
+     *
+     * @throws IllegalArgumentException if there were any data constraints violated.
+     */
+    private static Person readPerson(ByteBuffer data, Tag[] tags) {
+        Name name = new Name(readString(data));
+        Phone phone = new Phone(readString(data));
+        Email email = new Email(readString(data));
+        Address address = new Address(readString(data));
+        int tagCount = readCount(data);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags[data.getInt()]);
+        }
+        return new Person(name, phone, email, address, personTags);
+    }
+
+    /**
+     * Reads a count of items that each take at least an {@code int} in {@code data}.
+     */
+    private static int readCount(ByteBuffer data) {
+        return readCount(data, Integer.BYTES);
+    }
+
+    private static int readCount(ByteBuffer data, int minBytesPerItem) {
+        int count = data.getInt();
+        if (count < 0 || count > data.remaining() / minBytesPerItem) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer data) {
+        int length = readCount(data, 1);
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookFormat}.
+ *
+ * The file is read into memory in full and closed before its persons are decoded and checked, so that saving can
+ * replace it at any time. If the file does not exist yet, the data is imported from
+ * a JSON file in the format of {@link JsonAddressBookStorage}, so that switching formats keeps existing data.
+ *
+ * JSON remains the format for exchanging data with other tools: the JSON file is rewritten with the final data when
+ * the app stops, see {@link #saveOnExit(ReadOnlyAddressBook)}, so it is up to date whenever the app is not running
+ * and switching back to the JSON format keeps the changes made since the import. Changes made to the JSON file are
+ * only read while the binary file does not exist.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path importFilePath;
+
+    /**
+     * Creates a storage with its data at {@code filePath}, importing from the JSON file at {@code importFilePath}
+     * until the first save and exporting to it when the app stops.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path importFilePath) {
+        this.filePath = requireNonNull(filePath);
+        this.importFilePath = requireNonNull(importFilePath);
+    }
+
+    /**
+     * Returns the path of the binary file that replaces the JSON file at {@code jsonFilePath}, i.e. the same path
+     * with its {@code .json} extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(".json")) {
+            fileName = fileName.substring(0, fileName.length() - ".json".length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath) && Files.exists(importFilePath)) {
+            logger.info("Importing data from " + importFilePath);
+            return new JsonAddressBookStorage(importFilePath).readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, without importing from JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(BinaryAddressBookFormat.read(buffer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written in full beside {@code filePath} first and then moved over it, so an interrupted save
+     * leaves the previous data intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempPath)) {
+            BinaryAddressBookFormat.write(addressBook, out);
+        }
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Exports {@code addressBook} to the JSON file that this storage imports from, so that other tools and the JSON
+     * format see the latest data.
+     */
+    @Override
+    public void saveOnExit(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        logger.info("Exporting data to " + importFilePath);
+        new JsonAddressBookStorage(importFilePath).saveAddressBook(addressBook);
+    }
+
+}
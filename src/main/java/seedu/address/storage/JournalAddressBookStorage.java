@@ -0,0 +1,348 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal of later changes.
+ *
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. Each save appends to the journal
+ * only the persons inserted and removed since the previous save, one compact JSON record per line, and forces them
+ * to disk. Once the journal grows past {@link #COMPACTION_THRESHOLD} records, or a save changes most of the book, a
+ * new snapshot is written instead and the journal is restarted.
+ *
+ * The first line of the journal holds the checksum of the snapshot it applies to, so a journal left behind by an
+ * interrupted compaction is recognised and ignored. A partially written last line is also ignored.
+ *
+ * {@link JsonAddressBookStorage} replays a journal it finds next to its file and removes it on its first save, so
+ * switching back to the JSON format keeps the changes recorded only in the journal.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+
+    // persons as of the last save to filePath, or null if the journal cannot be appended to
+    private List<Person> savedPersons;
+    private int journalRecords;
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath} and its journal next to it.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+        this.journalPath = journalPathOf(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<LoadedPersons> loaded = load(filePath);
+        savedPersons = loaded.map(l -> l.persons).orElse(null);
+        journalRecords = loaded.map(l -> l.journalRecords).orElse(0);
+        return loaded.map(l -> toAddressBook(l.persons));
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, replaying the journal next to {@code filePath} if there is one.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return load(filePath).map(l -> toAddressBook(l.persons));
+    }
+
+    private static Optional<LoadedPersons> load(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            CheckedInputStream snapshot = new CheckedInputStream(Files.newInputStream(filePath), new CRC32());
+            List<Person> persons;
+            try (JsonParser parser = JsonUtil.createParser(snapshot)) {
+                persons = new ArrayList<>(JsonSerializableAddressBook.readFrom(parser).getPersonList());
+                // the checksum covers the whole file, including anything after the address book object
+                snapshot.transferTo(OutputStream.nullOutputStream());
+            }
+            long checksum = snapshot.getChecksum().getValue();
+            int journalRecords = replayJournal(journalPathOf(filePath), checksum, persons);
+            toAddressBook(persons); // checks that the replayed persons are unique
+            return Optional.of(new LoadedPersons(persons, journalRecords));
+        } catch (IOException | IllegalValueException | DuplicatePersonException e) {
+            logger.info("Could not load " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Applies the records of the journal at {@code journal} to {@code persons} if the journal belongs to the
+     * snapshot with the given {@code checksum}, and returns the number of records applied.
+     */
+    private static int replayJournal(Path journal, long checksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return 0;
+        }
+
+        String content = FileUtil.readFromFile(journal);
+        String[] lines = content.split("\n", -1);
+        // the last element is empty if the journal ends with a complete line, or a partially written record if not
+        int completeLines = lines.length - 1;
+        if (!lines[completeLines].isEmpty()) {
+            logger.warning("Ignoring incomplete last record of " + journal);
+        }
+        if (completeLines == 0
+                || !JsonUtil.fromJsonString(lines[0], JsonAdaptedJournalRecord.class).isSnapshotOf(checksum)) {
+            logger.info("Ignoring " + journal + " as it does not belong to the current snapshot");
+            return 0;
+        }
+
+        for (int i = 1; i < completeLines; i++) {
+            JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalRecord.class).applyTo(persons);
+        }
+        return completeLines - 1;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+
+        List<JsonAdaptedJournalRecord> records = savedPersons == null ? null : diff(savedPersons, persons);
+        if (records == null
+                || journalRecords + records.size() > COMPACTION_THRESHOLD
+                || records.size() > persons.size() / 2 + 1) {
+            compact(persons);
+            return;
+        }
+
+        if (!records.isEmpty()) {
+            try {
+                appendToJournal(records, false);
+            } catch (IOException | RuntimeException e) {
+                forceCompaction();
+                throw e;
+            }
+            journalRecords += records.size();
+        }
+        savedPersons = persons;
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath}, without journaling.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            compact(new ArrayList<>(addressBook.getPersonList()));
+            return;
+        }
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Makes the next save write a new snapshot instead of appending to the journal. Called when a write fails, as
+     * the journal may then end in a partially written record that later records must not be appended to, or may
+     * still start with the checksum of a replaced snapshot.
+     */
+    private void forceCompaction() {
+        savedPersons = null;
+    }
+
+    /**
+     * Writes {@code persons} as the new snapshot and restarts the journal from it.
+     * The snapshot is forced to disk before it replaces the old one, and the move before the journal is restarted,
+     * so a crash at any point leaves either the old snapshot and journal or the new snapshot.
+     */
+    private void compact(List<Person> persons) throws IOException {
+        try {
+            writeSnapshot(persons);
+        } catch (IOException | RuntimeException e) {
+            forceCompaction();
+            throw e;
+        }
+        journalRecords = 0;
+        savedPersons = persons;
+    }
+
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        long checksum;
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream snapshot = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32());
+            JsonGenerator generator = JsonUtil.createGenerator(snapshot);
+            JsonSerializableAddressBook.writeTo(toAddressBook(persons), generator);
+            generator.flush();
+            channel.force(false);
+            checksum = snapshot.getChecksum().getValue();
+        }
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(filePath.toAbsolutePath().getParent());
+
+        appendToJournal(List.of(JsonAdaptedJournalRecord.snapshot(checksum)), true);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to disk where the platform allows
+     * it. Directories cannot be opened for this on some platforms, e.g. Windows, where the move is durable anyway.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not force directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Writes {@code records} to the journal, one per line, and forces them to disk.
+     *
+     * @param restart whether to discard the existing records of the journal.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, boolean restart) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        StandardOpenOption mode = restart ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}, or null if they cannot be expressed as
+     * removals and insertions, i.e. if persons present in both lists are not in the same relative order.
+     * Persons are compared by reference, which is sound since persons are immutable.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Person> before, List<Person> after) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (after.isEmpty()) {
+            if (!before.isEmpty()) {
+                records.add(JsonAdaptedJournalRecord.clear());
+            }
+            return records;
+        }
+
+        Map<Person, Integer> indexBefore = new IdentityHashMap<>();
+        for (int i = 0; i < before.size(); i++) {
+            indexBefore.put(before.get(i), i);
+        }
+
+        boolean[] kept = new boolean[before.size()];
+        List<Integer> insertedAt = new ArrayList<>();
+        int lastKept = -1;
+        for (int j = 0; j < after.size(); j++) {
+            Integer i = indexBefore.get(after.get(j));
+            if (i == null) {
+                insertedAt.add(j);
+                continue;
+            }
+            if (i < lastKept) {
+                return null;
+            }
+            kept[i] = true;
+            lastKept = i;
+        }
+
+        // remove from the back so that earlier indices stay valid, then insert from the front
+        for (int i = before.size() - 1; i >= 0; i--) {
+            if (!kept[i]) {
+                records.add(JsonAdaptedJournalRecord.remove(i));
+            }
+        }
+        for (int j : insertedAt) {
+            records.add(JsonAdaptedJournalRecord.insert(j, after.get(j)));
+        }
+        return records;
+    }
+
+    static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * The persons loaded from a snapshot and its journal.
+     */
+    private static class LoadedPersons {
+        private final List<Person> persons;
+        private final int journalRecords;
+
+        LoadedPersons(List<Person> persons, int journalRecords) {
+            this.persons = persons;
+            this.journalRecords = journalRecords;
+        }
+    }
+}
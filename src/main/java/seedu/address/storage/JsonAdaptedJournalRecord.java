@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one record of the journal written by {@link JournalAddressBookStorage}.
+ * A record either identifies the snapshot the journal applies to, or describes one change to the person list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_SNAPSHOT = "snapshot";
+    public static final String OP_INSERT = "insert";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_CLEAR = "clear";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record: %s";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("checksum") Long checksum) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns a record identifying the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(OP_SNAPSHOT, null, null, checksum);
+    }
+
+    /**
+     * Returns a record inserting {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord insert(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_INSERT, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record removing the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OP_REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns a record removing every person.
+     */
+    public static JsonAdaptedJournalRecord clear() {
+        return new JsonAdaptedJournalRecord(OP_CLEAR, null, null, null);
+    }
+
+    /**
+     * Returns true if this record identifies a snapshot with the given {@code checksum}.
+     */
+    public boolean isSnapshotOf(long checksum) {
+        return OP_SNAPSHOT.equals(op) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change described by this record to {@code persons}.
+     *
+     * @throws IllegalValueException if this record is not a valid change to {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OP_CLEAR.equals(op)) {
+            persons.clear();
+        } else if (OP_REMOVE.equals(op) && index != null && index >= 0 && index < persons.size()) {
+            persons.remove((int) index);
+        } else if (OP_INSERT.equals(op) && index != null && index >= 0 && index <= persons.size() && person != null) {
+            persons.add(index, person.toModelType());
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +28,17 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    public static final String MESSAGE_INVALID_PERSON_FORMAT = "persons[%d]: %s";
+    public static final String MESSAGE_INVALID_PERSONS = "%d persons are invalid, the first %d being:\n";
+
+    // below this many persons, conversion is faster on the calling thread than in the fork-join pool
+    static final int PARALLEL_THRESHOLD = 512;
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String PERSONS_FIELD = "persons";
+    // persons read from a stream are converted in batches of this size, to bound the adapted persons held at once
+    private static final int BATCH_SIZE = 8192;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -42,19 +60,118 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel, and all persons that violate data constraints are reported together.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        List<String> errors = new ArrayList<>();
+        List<Person> modelPersons = toModelPersons(persons, 0, errors);
+        return toAddressBook(modelPersons, errors);
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, converting persons to the model's
+     * {@code Person} in batches as they are read, so that the adapted persons are never all held in memory at once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean isPersons = PERSONS_FIELD.equals(parser.getCurrentName());
+            if (parser.nextToken() != JsonToken.START_ARRAY || !isPersons) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == BATCH_SIZE) {
+                    modelPersons.addAll(toModelPersons(batch, modelPersons.size() + errors.size(), errors));
+                    batch.clear();
+                }
             }
-            addressBook.addPerson(person);
+        }
+        modelPersons.addAll(toModelPersons(batch, modelPersons.size() + errors.size(), errors));
+        return toAddressBook(modelPersons, errors);
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's persons, using the common fork-join pool for large lists.
+     * For each person that violates data constraints, a message naming its position in the file, counted from
+     * {@code firstIndex}, is added to {@code errors} instead.
+     */
+    private static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons, int firstIndex,
+            List<String> errors) {
+        int count = adaptedPersons.size();
+        Person[] converted = new Person[count];
+        String[] failures = new String[count];
+        IntStream indices = IntStream.range(0, count);
+        if (count >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                converted[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                failures[i] = e.getMessage();
+            }
+        });
+
+        List<Person> modelPersons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (failures[i] == null) {
+                modelPersons.add(converted[i]);
+            } else {
+                errors.add(String.format(MESSAGE_INVALID_PERSON_FORMAT, firstIndex + i, failures[i]));
+            }
+        }
+        return modelPersons;
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}, checking for duplicates in a single hash-based pass.
+     *
+     * @throws IllegalValueException if {@code errors} is not empty, or if there are duplicate persons.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons, List<String> errors)
+            throws IllegalValueException {
+        if (errors.size() == 1) {
+            throw new IllegalValueException(errors.get(0));
+        }
+        if (!errors.isEmpty()) {
+            int reported = Math.min(errors.size(), MAX_REPORTED_ERRORS);
+            String message = String.format(MESSAGE_INVALID_PERSONS, errors.size(), reported)
+                    + String.join("\n", errors.subList(0, reported));
+            throw new IllegalValueException(message);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, e);
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, adapting one person at a time.
+     */
+    static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
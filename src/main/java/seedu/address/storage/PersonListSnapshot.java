@@ -0,0 +1,25 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A frozen copy of the person list of an address book, which can be saved from another thread while the original
+ * address book keeps changing. Persons are immutable, so only the list itself is copied.
+ */
+class PersonListSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    PersonListSnapshot(ReadOnlyAddressBook addressBook) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Saves the address book and user prefs to {@code Storage} after the commands that changed them have returned.
+ *
+ * Each save request takes a snapshot of the data on the calling thread. With a background saver, the snapshot is
+ * written a short delay later on a single background thread, and requests arriving before it is written replace it,
+ * so a burst of changes results in one write of the latest data. A write-through saver writes each snapshot
+ * immediately on the calling thread instead.
+ *
+ * A failed write is remembered and reported by the next call to {@link #checkFailure()} or {@link #flush()}.
+ */
+public class WriteBehindSaver {
+
+    public static final long DEFAULT_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final ScheduledExecutorService executor; // null if writes are done on the calling thread
+    private final long delayMillis;
+    private final AtomicReference<PendingSave> pending = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    private WriteBehindSaver(Storage storage, ScheduledExecutorService executor, long delayMillis) {
+        this.storage = requireNonNull(storage);
+        this.executor = executor;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Returns a saver that writes to {@code storage} on a background thread, coalescing the requests made within
+     * {@code delayMillis} of each other.
+     */
+    public static WriteBehindSaver background(Storage storage, long delayMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new WriteBehindSaver(storage, executor, delayMillis);
+    }
+
+    /**
+     * Returns a saver that writes to {@code storage} immediately, on the thread requesting the save.
+     */
+    public static WriteBehindSaver writeThrough(Storage storage) {
+        return new WriteBehindSaver(storage, null, 0);
+    }
+
+    /**
+     * Requests that the current contents of {@code addressBook} and {@code userPrefs} be saved.
+     * Must be called on the thread that modifies them.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        PendingSave save = new PendingSave(new PersonListSnapshot(addressBook), new UserPrefs(userPrefs));
+        if (pending.getAndSet(save) != null) {
+            return; // the write already scheduled will pick up this snapshot instead
+        }
+        if (executor == null) {
+            writePending();
+        } else {
+            executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Throws the exception of the most recent failed write, if it has not been reported yet.
+     */
+    public void checkFailure() throws IOException {
+        IOException e = failure.getAndSet(null);
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Writes any pending snapshot now and waits for it to complete.
+     *
+     * @throws IOException if a write failed since the last failure was reported.
+     */
+    public void flush() throws IOException {
+        if (executor == null) {
+            writePending();
+        } else if (!executor.isShutdown()) {
+            try {
+                executor.submit(this::writePending).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        checkFailure();
+    }
+
+    /**
+     * Flushes pending writes and stops the background thread, if any.
+     *
+     * @throws IOException if a write failed since the last failure was reported.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private void writePending() {
+        PendingSave save = pending.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(save.addressBook);
+            storage.saveUserPrefs(save.userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+            failure.set(e);
+        }
+    }
+
+    /**
+     * The data of a save request.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final ReadOnlyUserPrefs userPrefs;
+
+        PendingSave(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+            this.addressBook = addressBook;
+            this.userPrefs = userPrefs;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
@@ -12,6 +16,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -20,6 +25,26 @@ import seedu.address.model.tag.Tag;
  */
 public class AddPreviewBuilder {
 
+    static final String MESSAGE_EXISTING_CLIENT = " (client already exists!)";
+
+    private final FieldPreviewCache cache = new FieldPreviewCache();
+    private final Predicate<PersonIdentity> existingClients;
+
+    /**
+     * Creates a builder that does not check whether the client being added already exists.
+     */
+    public AddPreviewBuilder() {
+        this(identity -> false);
+    }
+
+    /**
+     * Creates a builder that marks the name and phone as invalid when {@code existingClients} holds for the identity
+     * they form. {@code existingClients} is called on every input, so it should not scan the address book.
+     */
+    public AddPreviewBuilder(Predicate<PersonIdentity> existingClients) {
+        this.existingClients = requireNonNull(existingClients);
+    }
+
     /**
      * Parses the given add command input and generates a list of FieldPreview
      * objects
@@ -32,6 +57,15 @@ public class AddPreviewBuilder {
      *         Returns an empty list if input is empty or invalid.
      */
     public static List<FieldPreview> buildPreview(String input) {
+        return new AddPreviewBuilder().buildNextPreview(input);
+    }
+
+    /**
+     * Returns the same previews as {@link #buildPreview(String)}, but reuses the preview of every field whose
+     * value is unchanged since the last input given to this builder, so that only the field being typed is
+     * validated again. The name and phone are also checked against the existing clients given to this builder.
+     */
+    public List<FieldPreview> buildNextPreview(String input) {
         List<FieldPreview> fieldPreviews = new ArrayList<>();
         String args = input.substring(3).trim();
         if (!args.isEmpty() && !args.startsWith(" ")) {
@@ -59,14 +93,31 @@ public class AddPreviewBuilder {
 
         List<String> tagList = argMultimap.getAllValues(CliSyntax.PREFIX_TAG);
 
-        fieldPreviews.add(createNamePreview(name, isDuplicateName));
-        fieldPreviews.add(createPhonePreview(phone, isDuplicatePhone));
-        fieldPreviews.add(createEmailPreview(email, isDuplicateEmail));
-        fieldPreviews.add(createAddressPreview(address, isDuplicateAddress));
-        fieldPreviews.add(createTagsPreview(tagList));
+        boolean isExistingClient = !isDuplicateName && !isDuplicatePhone && !name.isEmpty() && !phone.isEmpty()
+                && existingClients.test(new PersonIdentity(name, phone));
+
+        fieldPreviews.add(cache.get("Name (n/):", Arrays.asList(name, isDuplicateName, isExistingClient), () ->
+                markIfExistingClient(createNamePreview(name, isDuplicateName), isExistingClient)));
+        fieldPreviews.add(cache.get("Phone (p/):", Arrays.asList(phone, isDuplicatePhone, isExistingClient), () ->
+                markIfExistingClient(createPhonePreview(phone, isDuplicatePhone), isExistingClient)));
+        fieldPreviews.add(cache.get("Email (e/):", Arrays.asList(email, isDuplicateEmail), () ->
+                createEmailPreview(email, isDuplicateEmail)));
+        fieldPreviews.add(cache.get("Address (a/):", Arrays.asList(address, isDuplicateAddress), () ->
+                createAddressPreview(address, isDuplicateAddress)));
+        fieldPreviews.add(cache.get("Tags (t/):", tagList, () -> createTagsPreview(tagList)));
         return fieldPreviews;
     }
 
+    /**
+     * Returns {@code preview} marked as invalid because the client already exists, if {@code isExistingClient}.
+     */
+    static FieldPreview markIfExistingClient(FieldPreview preview, boolean isExistingClient) {
+        if (!isExistingClient) {
+            return preview;
+        }
+        return new FieldPreview(preview.getLabel(), preview.getValue() + MESSAGE_EXISTING_CLIENT, false);
+    }
+
     static FieldPreview createTagsPreview(List<String> tagLists) {
         List<String> upperTagLists = new ArrayList<>();
         for (String tag : tagLists) {
@@ -2,19 +2,20 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.logging.Logger;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -23,10 +24,11 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
-    private static final Logger logger = LogsCenter.getLogger(CommandBox.class.getName());
 
     private final CommandExecutor commandExecutor;
-    private final Consumer<List<FieldPreview>> livePreviewCallback;
+    private final LivePreviewPipeline previewPipeline;
+    private final AddPreviewBuilder addPreviewBuilder;
+    private final EditPreviewBuilder editPreviewBuilder = new EditPreviewBuilder();
     private final ObservableList<Person> personList;
 
     private List<String> commandHistory = new ArrayList<>();
@@ -37,13 +39,15 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor} and
-     * live preview callback.
+     * live preview callback. {@code existingClients} tells the add preview whether a client is already in the address
+     * book, and is called from a background thread.
      */
     public CommandBox(CommandExecutor commandExecutor, Consumer<List<FieldPreview>> livePreviewCallback,
-            ObservableList<Person> personList) {
+            ObservableList<Person> personList, Predicate<PersonIdentity> existingClients) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.livePreviewCallback = livePreviewCallback;
+        this.previewPipeline = new LivePreviewPipeline(livePreviewCallback);
+        this.addPreviewBuilder = new AddPreviewBuilder(existingClients);
         this.personList = personList;
         // Add listener to command box to handle live preview
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
@@ -78,29 +82,34 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Provides live feedback for add command.
+     * Provides live feedback for add and edit commands. The previews are computed in the background by
+     * {@link LivePreviewPipeline}, one at a time, so the builders can safely reuse the previews of unchanged fields.
+     * The preview is cleared right away for any other input.
      */
     void handleLiveFeedback(String input) {
         assert input != null : "Input should not be null";
         if (input.isEmpty()) {
-            livePreviewCallback.accept(new ArrayList<>());
+            previewPipeline.publishNow(new ArrayList<>());
             return;
         }
         String[] splitInput = input.split(" ");
         String prefix = splitInput.length == 0 ? "" : splitInput[0];
-        List<FieldPreview> fieldPreviews;
         if (prefix.equals("add")) {
-            logger.info("----------------[LIVE PREVIEW][" + "add user" + "]");
-            fieldPreviews = AddPreviewBuilder.buildPreview(input);
+            previewPipeline.request(() -> addPreviewBuilder.buildNextPreview(input));
         } else if (prefix.equals("edit")) {
-            logger.info("----------------[LIVE PREVIEW][" + "edit user" + "]");
-            fieldPreviews = EditPreviewBuilder.buildPreview(input, personList);
+            // The displayed list may change while the preview is computed, so only the edited person is handed over
+            Optional<Person> target = EditPreviewBuilder.findTarget(input, personList);
+            previewPipeline.request(() -> editPreviewBuilder.buildNextPreview(input, target));
         } else {
-            livePreviewCallback.accept(new ArrayList<>());
-            return;
+            previewPipeline.publishNow(new ArrayList<>());
         }
+    }
 
-        livePreviewCallback.accept(fieldPreviews);
+    /**
+     * Stops computing live previews, e.g. when the window closes. Later input no longer updates the preview.
+     */
+    void stopLivePreview() {
+        previewPipeline.shutdown();
     }
 
     /**
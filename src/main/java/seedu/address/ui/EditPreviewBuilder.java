@@ -4,7 +4,9 @@ import static seedu.address.logic.commands.EditCommand.MESSAGE_EXCEEDING_MAX_TAG
 import static seedu.address.logic.commands.EditCommand.MESSAGE_TOO_MANY_TAG_PREFIXES;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
@@ -16,11 +18,15 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Utility class for handling edit preview live preview.
  */
 public class EditPreviewBuilder {
+
+    private final FieldPreviewCache cache = new FieldPreviewCache();
+
     /**
      * Parses the given edit command input and generates a list of FieldPreview
      * objects
@@ -34,25 +40,31 @@ public class EditPreviewBuilder {
      *         Returns an empty list if input is empty or invalid.
      */
     public static List<FieldPreview> buildPreview(String input, List<Person> personList) {
+        return new EditPreviewBuilder().buildNextPreview(input, personList);
+    }
+
+    /**
+     * Returns the same previews as {@link #buildPreview(String, List)}, but reuses the preview of every field whose
+     * value and edited person are unchanged since the last input given to this builder, so that only the field being
+     * typed is validated again.
+     */
+    public List<FieldPreview> buildNextPreview(String input, List<Person> personList) {
+        return buildNextPreview(input, findTarget(input, personList));
+    }
+
+    /**
+     * Returns the same previews as {@link #buildNextPreview(String, List)} for the edit command {@code input}, whose
+     * index refers to {@code target}, as found by {@link #findTarget(String, List)}.
+     */
+    public List<FieldPreview> buildNextPreview(String input, Optional<Person> target) {
         List<FieldPreview> fieldPreviews = new ArrayList<>();
-        String args = input.substring(4).trim();
-        String[] allTokens = args.split("\\s+");
-        if (allTokens.length < 1) {
-            return new ArrayList<>();
-        }
-        String indexStr = allTokens[0];
-        int index = -1;
-        try {
-            index = Integer.parseInt(indexStr) - 1;
-        } catch (NumberFormatException e) {
-            fieldPreviews.add(createInvalidIndexPreview());
-            return fieldPreviews;
-        }
-        if (index < 0 || index >= personList.size()) {
+        if (target.isEmpty()) {
             fieldPreviews.add(createInvalidIndexPreview());
             return fieldPreviews;
         }
-        Person person = personList.get(index);
+        Person person = target.get();
+        String args = input.substring(4).trim();
+        String indexStr = getIndexToken(input);
 
         String flagArgs = args.substring(indexStr.length()).trim();
         if (!flagArgs.isEmpty() && !flagArgs.startsWith(" ")) {
@@ -68,28 +80,28 @@ public class EditPreviewBuilder {
                 CliSyntax.PREFIX_ADDTAG,
                 CliSyntax.PREFIX_DELETETAG);
 
-        fieldPreviews.add(createFieldPreview(
+        fieldPreviews.add(createCachedFieldPreview(
                 "Name (n/):",
                 person.getName().fullName,
                 argMultimap.getValue(CliSyntax.PREFIX_NAME).orElse(null),
                 DuplicateFieldChecker.isDuplicateField(argMultimap, CliSyntax.PREFIX_NAME),
                 Name::isValidName));
 
-        fieldPreviews.add(createFieldPreview(
+        fieldPreviews.add(createCachedFieldPreview(
                 "Phone (p/):",
                 person.getPhone().value,
                 argMultimap.getValue(CliSyntax.PREFIX_PHONE).orElse(null),
                 DuplicateFieldChecker.isDuplicateField(argMultimap, CliSyntax.PREFIX_PHONE),
                 Phone::isValidPhone));
 
-        fieldPreviews.add(createFieldPreview(
+        fieldPreviews.add(createCachedFieldPreview(
                 "Email (e/):",
                 person.getEmail().value,
                 argMultimap.getValue(CliSyntax.PREFIX_EMAIL).orElse(null),
                 DuplicateFieldChecker.isDuplicateField(argMultimap, CliSyntax.PREFIX_EMAIL),
                 Email::isValidEmail));
 
-        fieldPreviews.add(createFieldPreview(
+        fieldPreviews.add(createCachedFieldPreview(
                 "Address (a/):",
                 person.getAddress().value,
                 argMultimap.getValue(CliSyntax.PREFIX_ADDRESS).orElse(null),
@@ -100,6 +112,29 @@ public class EditPreviewBuilder {
         List<String> addTagsList = argMultimap.getAllValues(CliSyntax.PREFIX_ADDTAG);
         List<String> deleteTagsList = argMultimap.getAllValues(CliSyntax.PREFIX_DELETETAG);
 
+        List<?> tagInputs = Arrays.asList(person, newTagsList, addTagsList, deleteTagsList);
+        fieldPreviews.add(cache.get("Tags (t/):", tagInputs, () ->
+                createTagOperationPreview(person, newTagsList, addTagsList, deleteTagsList)));
+
+        return fieldPreviews;
+    }
+
+    /**
+     * Returns the same preview as {@link #createFieldPreview}, reusing the last preview of the field labelled
+     * {@code label} if it was built from the same values.
+     */
+    private FieldPreview createCachedFieldPreview(String label, String oldValue, String newValue, boolean isDuplicate,
+            java.util.function.Predicate<String> validator) {
+        return cache.get(label, Arrays.asList(oldValue, newValue, isDuplicate), () ->
+                createFieldPreview(label, oldValue, newValue, isDuplicate, validator));
+    }
+
+    /**
+     * Returns the preview of the tags of {@code person} after the tag operation given by whichever of the lists of
+     * tags to replace with, add and delete is non-empty.
+     */
+    private static FieldPreview createTagOperationPreview(Person person, List<String> newTagsList,
+            List<String> addTagsList, List<String> deleteTagsList) {
         String tags = String.join(", ", person.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new));
 
         boolean isMultipleTagOps = false;
@@ -120,19 +155,17 @@ public class EditPreviewBuilder {
         }
 
         if (isMultipleTagOps) {
-            fieldPreviews.add(new FieldPreview("Tags (t/):",
-                    MESSAGE_TOO_MANY_TAG_PREFIXES, false));
+            return new FieldPreview("Tags (t/):",
+                    MESSAGE_TOO_MANY_TAG_PREFIXES, false);
         } else if (!newTagsList.isEmpty()) {
-            fieldPreviews.add(createTagsPreview(person, newTagsList));
+            return createTagsPreview(person, newTagsList);
         } else if (!addTagsList.isEmpty()) {
-            fieldPreviews.add(createAddTagsPreview(person, addTagsList));
+            return createAddTagsPreview(person, addTagsList);
         } else if (!deleteTagsList.isEmpty()) {
-            fieldPreviews.add(createDeleteTagsPreview(person, deleteTagsList));
+            return createDeleteTagsPreview(person, deleteTagsList);
         } else {
-            fieldPreviews.add(new FieldPreview("Tags (t/):", tags, true));
+            return new FieldPreview("Tags (t/):", tags, true);
         }
-
-        return fieldPreviews;
     }
 
     static FieldPreview createNamePreview(Person person, String newName, boolean isDuplicate) {
@@ -197,6 +230,14 @@ public class EditPreviewBuilder {
         return createGenericTagsPreview(person, newTagsList, TagOperation.REMOVE);
     }
 
+    /**
+     * Returns true if {@code person} has the tag named {@code tagName}.
+     * Looks the name up without registering it, so the partial names typed while editing are not kept as tags.
+     */
+    private static boolean hasTag(Person person, String tagName) {
+        return TagRegistry.getInstance().lookup(tagName).map(person.getTags()::contains).orElse(false);
+    }
+
     private static FieldPreview createGenericTagsPreview(Person person, List<String> newTagsList, TagOperation op) {
         String oldTags = String.join(", ",
                 person.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new));
@@ -208,9 +249,10 @@ public class EditPreviewBuilder {
             if (!tag.isEmpty() && !Tag.isValidTagName(tag)) {
                 invalidTagIndices.add(i);
             } else if (Tag.isValidTagName(tag)) {
-                if (op.equals(TagOperation.REMOVE) && !person.getTags().contains(new Tag(tag))) {
+                boolean hasTag = hasTag(person, tag);
+                if (op.equals(TagOperation.REMOVE) && !hasTag) {
                     invalidTagIndices.add(i);
-                } else if (!op.equals(TagOperation.REMOVE) && person.getTags().contains(new Tag(tag))) {
+                } else if (!op.equals(TagOperation.REMOVE) && hasTag) {
                     continue;
                 }
             }
@@ -251,6 +293,29 @@ public class EditPreviewBuilder {
         }
     }
 
+    /**
+     * Returns the person in {@code personList} at the index given in the edit command {@code input}, or an empty
+     * {@code Optional} if the index is not a number or is out of bounds.
+     * Cheap enough to call on the thread that owns {@code personList}, so that only the edited person needs to be
+     * handed to {@link #buildNextPreview(String, Optional)} on another thread.
+     */
+    public static Optional<Person> findTarget(String input, List<Person> personList) {
+        int index;
+        try {
+            index = Integer.parseInt(getIndexToken(input)) - 1;
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (index < 0 || index >= personList.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(personList.get(index));
+    }
+
+    private static String getIndexToken(String input) {
+        return input.substring(4).trim().split("\\s+")[0];
+    }
+
     private static FieldPreview createInvalidIndexPreview() {
         return new FieldPreview("Edit Preview", "Invalid index!", false);
     }
@@ -0,0 +1,41 @@
+package seedu.address.ui;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the preview last built for each field of a command together with the inputs it was built from, so that
+ * while a command is typed only the fields whose inputs changed are validated and built again.
+ *
+ * Not thread-safe: a cache is meant to be used only by the thread computing the previews.
+ */
+class FieldPreviewCache {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Returns the preview of the field labelled {@code label} built from {@code inputs}. The last preview of that
+     * field is returned if it was built from equal inputs; otherwise {@code builder} builds a new one.
+     */
+    FieldPreview get(String label, List<?> inputs, Supplier<FieldPreview> builder) {
+        Entry entry = entries.get(label);
+        if (entry != null && entry.inputs.equals(inputs)) {
+            return entry.preview;
+        }
+        FieldPreview preview = builder.get();
+        entries.put(label, new Entry(inputs, preview));
+        return preview;
+    }
+
+    private static class Entry {
+        private final List<?> inputs;
+        private final FieldPreview preview;
+
+        Entry(List<?> inputs, FieldPreview preview) {
+            this.inputs = inputs;
+            this.preview = preview;
+        }
+    }
+}
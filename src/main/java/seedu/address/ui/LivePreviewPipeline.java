@@ -0,0 +1,135 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Computes the live previews of the command being typed on a background thread, so that typing stays smooth however
+ * long a preview takes.
+ *
+ * A preview is only computed once no newer one has been requested for {@value #DEBOUNCE_MILLIS} milliseconds, so a
+ * burst of keystrokes costs a single preview. Each request supersedes the ones before it: those not yet started are
+ * cancelled, and those already running are discarded when they finish. Only the latest preview is handed to the
+ * callback, on the JavaFX application thread.
+ *
+ * Requests must all be made from the thread that the previews are published on.
+ */
+public class LivePreviewPipeline {
+
+    /** Time to wait after a request for a newer one before computing its preview, in milliseconds. */
+    static final long DEBOUNCE_MILLIS = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(LivePreviewPipeline.class);
+
+    private final ScheduledThreadPoolExecutor worker;
+    private final Executor publisher;
+    private final long debounceMillis;
+    private final Consumer<List<FieldPreview>> callback;
+    private final AtomicLong latestRequest = new AtomicLong();
+    private ScheduledFuture<?> pending;
+
+    /**
+     * Creates a pipeline that hands the previews to {@code callback} on the JavaFX application thread.
+     */
+    public LivePreviewPipeline(Consumer<List<FieldPreview>> callback) {
+        this(Platform::runLater, DEBOUNCE_MILLIS, callback);
+    }
+
+    /**
+     * Creates a pipeline that hands the previews to {@code callback} through {@code publisher}, waiting
+     * {@code debounceMillis} milliseconds after each request.
+     */
+    LivePreviewPipeline(Executor publisher, long debounceMillis, Consumer<List<FieldPreview>> callback) {
+        this.publisher = requireNonNull(publisher);
+        this.debounceMillis = debounceMillis;
+        this.callback = requireNonNull(callback);
+        this.worker = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "live-preview");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.worker.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Requests the previews computed by {@code preview}, superseding every earlier request.
+     * {@code preview} is run on the background thread, so it must not read state that the UI may change meanwhile.
+     * Does nothing once the pipeline has been shut down.
+     */
+    public void request(Supplier<List<FieldPreview>> preview) {
+        requireNonNull(preview);
+        if (worker.isShutdown()) {
+            return;
+        }
+        long request = supersedeEarlierRequests();
+        pending = worker.schedule(() -> compute(request, preview), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Hands {@code previews} to the callback right away, superseding every earlier request.
+     * Used for previews that are cheap enough to compute on the calling thread, such as clearing the preview.
+     */
+    public void publishNow(List<FieldPreview> previews) {
+        supersedeEarlierRequests();
+        callback.accept(previews);
+    }
+
+    /**
+     * Returns true if a request is waiting for its debounce delay to pass.
+     */
+    boolean hasPendingRequest() {
+        return !worker.getQueue().isEmpty();
+    }
+
+    /**
+     * Stops the background thread. Previews requested afterwards are ignored, and previews not yet published are
+     * discarded.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private long supersedeEarlierRequests() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        return latestRequest.incrementAndGet();
+    }
+
+    private void compute(long request, Supplier<List<FieldPreview>> preview) {
+        if (request != latestRequest.get()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<FieldPreview> previews;
+        try {
+            previews = preview.get();
+        } catch (RuntimeException e) {
+            logger.warning("Failed to compute live preview: " + StringUtil.getDetails(e));
+            return;
+        }
+        double elapsedMillis = (System.nanoTime() - start) / 1e6;
+        logger.fine(() -> String.format("Computed live preview %d in %.3fms", request, elapsedMillis));
+
+        // A newer request may arrive while this one waits to be published, so check again on the publishing thread
+        publisher.execute(() -> {
+            if (request == latestRequest.get()) {
+                callback.accept(previews);
+            }
+        });
+    }
+}
@@ -32,6 +32,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private CommandBox commandBox;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -98,8 +99,8 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, resultDisplay::setLivePreviewFeedback,
-                logic.getFilteredPersonList());
+        commandBox = new CommandBox(this::executeCommand, resultDisplay::setLivePreviewFeedback,
+                logic.getFilteredPersonList(), logic::hasPersonWithIdentity);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         TagFolderListPanel tagFolderListPanel = new TagFolderListPanel(
@@ -161,6 +162,9 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
+        if (commandBox != null) {
+            commandBox.stopLivePreview();
+        }
         primaryStage.hide();
     }
 
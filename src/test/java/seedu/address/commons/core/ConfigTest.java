@@ -12,10 +12,18 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", addressBookStorageFormat=" + config.getAddressBookStorageFormat()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsDumpIntervalSeconds=" + config.getMetricsDumpIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
+    @Test
+    public void getMetricsDumpIntervalSeconds_default_metricsFileOff() {
+        assertEquals(0, new Config().getMetricsDumpIntervalSeconds());
+    }
+
     @Test
     public void equalsMethod() {
         Config defaultConfig = new Config();
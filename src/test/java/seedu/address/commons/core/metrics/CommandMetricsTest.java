@@ -0,0 +1,69 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void sample_phases_recordedUnderCommandWord() {
+        CommandMetrics metrics = new CommandMetrics();
+
+        CommandMetrics.Sample sample = metrics.startSample();
+        sample.setCommandWord("add");
+        sample.startPhase(Phase.EXECUTE);
+        sample.startPhase(Phase.SAVE);
+        sample.finish();
+
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, metrics.getLatencies("add", phase).getCount());
+        }
+        assertEquals(0, metrics.getLatencies("edit", Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void sample_notParsed_recordedAsInvalid() {
+        CommandMetrics metrics = new CommandMetrics();
+
+        metrics.startSample().finish();
+
+        assertEquals(1, metrics.getLatencies(CommandMetrics.INVALID_COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(0, metrics.getLatencies(CommandMetrics.INVALID_COMMAND_WORD, Phase.EXECUTE).getCount());
+    }
+
+    @Test
+    public void sample_nestedFolderRefresh_separatedFromExecute() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+
+        CommandMetrics.Sample sample = metrics.startSample();
+        sample.setCommandWord("list");
+        sample.startPhase(Phase.EXECUTE);
+        CommandMetrics.beginFolderRefresh();
+        CommandMetrics.beginFolderRefresh();
+        Thread.sleep(20);
+        CommandMetrics.endFolderRefresh();
+        CommandMetrics.endFolderRefresh();
+        sample.finish();
+
+        long refreshNanos = metrics.getLatencies("list", Phase.FOLDER_REFRESH).getMax();
+        assertTrue(refreshNanos >= 20_000_000);
+        assertTrue(metrics.getLatencies("list", Phase.EXECUTE).getMax() < refreshNanos);
+    }
+
+    @Test
+    public void format() {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals("No commands recorded yet.", metrics.format());
+
+        metrics.recordLatency("stats", Phase.PARSE, 1_500_000);
+        metrics.recordAllocation("stats", 2048);
+        String summary = metrics.format();
+        assertTrue(summary.startsWith("stats (1 commands)\n"));
+        assertTrue(summary.contains("parse"));
+        assertTrue(summary.contains("allocated"));
+    }
+}
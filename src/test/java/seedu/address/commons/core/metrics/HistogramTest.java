@@ -0,0 +1,79 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void indexOf_bucketBoundsContainValue() {
+        for (long value = 0; value < 1_000_000; value += 1 + value / 7) {
+            int index = Histogram.indexOf(value);
+            assertTrue(value <= Histogram.highestValueOf(index));
+            assertTrue(index == 0 || Histogram.highestValueOf(index - 1) < value);
+            // a bucket is no wider than 1/SUB_BUCKETS_PER_POWER of the values in it
+            assertTrue(Histogram.highestValueOf(index) - value <= value / Histogram.SUB_BUCKETS_PER_POWER);
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinPrecision() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5000.5, histogram.getMean());
+        assertEquals(5000, histogram.getValueAtPercentile(50), 5000 / Histogram.SUB_BUCKETS_PER_POWER);
+        assertEquals(9900, histogram.getValueAtPercentile(99), 9900 / Histogram.SUB_BUCKETS_PER_POWER);
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_outOfRange_clamped() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals((1L << Histogram.MAX_TRACKABLE_BITS) - 1, histogram.getMax());
+    }
+
+    @Test
+    public void record_concurrentThreads_countsEveryValue() throws Exception {
+        Histogram histogram = new Histogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int value = 0; value < 10_000; value++) {
+                    histogram.record(value);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+}
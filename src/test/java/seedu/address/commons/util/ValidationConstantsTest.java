@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -13,5 +14,14 @@ public class ValidationConstantsTest {
         // Should not match a string with non-ASCII
         assertFalse("你好".matches(ValidationConstants.PRINTABLE_ASCII_REGEX));
     }
-}
 
+    @Test
+    public void isPrintableAscii_agreesWithRegex() {
+        String[] samples = {"", " ", "~", "Hello123!@#~ ", "tab\there", "line\n", "\u007F", "你好", "café"};
+        for (String sample : samples) {
+            assertEquals(sample.matches(ValidationConstants.PRINTABLE_ASCII_REGEX),
+                    ValidationConstants.isPrintableAscii(sample), sample);
+        }
+    }
+
+}
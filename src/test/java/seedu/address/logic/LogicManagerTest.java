@@ -18,6 +18,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
@@ -31,6 +33,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -70,6 +73,48 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_unchangedModel_skipsSave() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]); // first command saves the initial data
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_recordsMetricsByCommandWord() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, WriteBehindSaver.writeThrough(storage), metrics);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  " + ListCommand.COMMAND_WORD + " ");
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        for (Phase phase : Phase.values()) {
+            assertEquals(2, metrics.getLatencies(ListCommand.COMMAND_WORD, phase).getCount());
+        }
+        assertEquals(1, metrics.getLatencies(CommandMetrics.INVALID_COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(0, metrics.getLatencies(CommandMetrics.INVALID_COMMAND_WORD, Phase.EXECUTE).getCount());
+    }
+
     @Test
     public void execute_storageThrowsAdExceptionNoWritePermission_throwsCommandException() {
         // Simulate IOException during storage save and file inaccessible
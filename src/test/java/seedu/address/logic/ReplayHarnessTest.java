@@ -0,0 +1,56 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.AddressBookGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ReplayHarnessTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void generateScript_sameSeed_sameScript() {
+        AddressBookGenerator generator = new AddressBookGenerator(50);
+        AddressBook addressBook = generator.generate();
+
+        List<String> script = ReplayHarness.generateScript(generator, addressBook, 100, 3);
+        assertEquals(100, script.size());
+        assertEquals(script, ReplayHarness.generateScript(generator, addressBook, 100, 3));
+    }
+
+    @Test
+    public void run_generatedScript_addsPersonsAndReportsLatencies() {
+        AddressBookGenerator generator = new AddressBookGenerator(200);
+        AddressBook addressBook = generator.generate();
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        List<String> script = ReplayHarness.generateScript(generator, addressBook, 60, 1);
+
+        ReplayHarness.Report report = new ReplayHarness(new LogicManager(model, storage)).run(script);
+
+        long adds = script.stream().filter(command -> command.startsWith(AddCommand.COMMAND_WORD + " ")).count();
+        assertEquals(60, report.getCommandCount());
+        assertEquals(200 + adds, model.getAddressBook().getPersonList().size());
+        assertTrue(report.getFailureCount() < report.getCommandCount());
+        assertTrue(report.getLatencyPercentile(50) <= report.getLatencyPercentile(99));
+        assertTrue(report.getLatencyPercentile(99) <= report.getLatencyPercentile(100));
+        assertTrue(report.getThroughput() > 0);
+    }
+}
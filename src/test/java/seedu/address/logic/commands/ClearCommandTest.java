@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.lang.reflect.Field;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +16,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.TagFolder;
 
 public class ClearCommandTest {
@@ -51,6 +53,18 @@ public class ClearCommandTest {
         assertThrows(IllegalStateException.class, () -> clearCommand.undo(model));
     }
 
+    @Test
+    public void estimateFootprint_afterExecute_growsWithClearedPersons() {
+        ClearCommand emptyClear = new ClearCommand();
+        emptyClear.execute(new ModelManager());
+        ClearCommand clearCommand = new ClearCommand();
+        int size = model.getAddressBook().getPersonList().size();
+        clearCommand.execute(model);
+
+        assertTrue(clearCommand.estimateFootprint() - emptyClear.estimateFootprint()
+                >= size * Command.ESTIMATED_PERSON_BYTES);
+    }
+
     @Test
     public void is_mutable() {
         ClearCommand clearCommand = new ClearCommand();
@@ -75,8 +89,8 @@ public class ClearCommandTest {
         // store tag folders copy
         ObservableList<TagFolder> storedFolders = localModel.getActiveTagFoldersCopy();
 
-        // set currentAddressBook to null and currentTagFolders to storedFolders via reflection
-        Field addrField = ClearCommand.class.getDeclaredField("currentAddressBook");
+        // set currentPersons to null and currentTagFolders to storedFolders via reflection
+        Field addrField = ClearCommand.class.getDeclaredField("currentPersons");
         addrField.setAccessible(true);
         addrField.set(clearCommand, null);
 
@@ -97,15 +111,16 @@ public class ClearCommandTest {
     public void undo_restoresOnlyAddressBook_whenTagFoldersNull() throws Exception {
         Model localModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
-        // prepare stored address book
-        AddressBook storedBook = new AddressBook(localModel.getAddressBook().getPersonList());
+        // prepare stored persons
+        List<Person> storedPersons = List.copyOf(localModel.getAddressBook().getPersonList());
+        AddressBook storedBook = new AddressBook(localModel.getAddressBook());
 
         ClearCommand clearCommand = new ClearCommand();
 
-        // set currentAddressBook to storedBook and currentTagFolders to null via reflection
-        Field addrField = ClearCommand.class.getDeclaredField("currentAddressBook");
+        // set currentPersons to storedPersons and currentTagFolders to null via reflection
+        Field addrField = ClearCommand.class.getDeclaredField("currentPersons");
         addrField.setAccessible(true);
-        addrField.set(clearCommand, storedBook);
+        addrField.set(clearCommand, storedPersons);
 
         Field tagField = ClearCommand.class.getDeclaredField("currentTagFolders");
         tagField.setAccessible(true);
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -137,6 +138,18 @@ public class DeleteCommandTest {
         assertTrue(found);
     }
 
+    @Test
+    public void undoCommand_deleteCommand_restoresPersonAtOriginalIndex() throws Exception {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_SECOND_PERSON);
+        deleteCommand.execute(model);
+        deleteCommand.undo(model);
+
+        assertEquals(sizeBefore, model.getAddressBook().getPersonList().size());
+        assertSame(personToDelete, model.getAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased()));
+    }
+
     @Test
     public void undoCommand_failed_whenNoPersonDeleted() {
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -20,6 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -78,10 +80,15 @@ public class ListCommandDeleteAndDuplicateTest {
         @Override public boolean hasPerson(Person person) {
             return false;
         }
+        @Override public boolean hasPersonWithIdentity(PersonIdentity identity) {
+            return false;
+        }
         @Override public void deletePerson(Person target) {
         }
         @Override public void addPerson(Person person) {
         }
+        @Override public void insertPerson(int index, Person person) {
+        }
         @Override public void setPerson(Person target, Person editedPerson) {
         }
         @Override public int getSize() {
@@ -103,6 +110,12 @@ public class ListCommandDeleteAndDuplicateTest {
         @Override public java.util.HashMap<FeatureTag, Set<Tag>> getBizTags() {
             return new java.util.HashMap<>();
         }
+        @Override public List<FeatureStats> getFeatureStats() {
+            return List.of();
+        }
+        @Override public long getVersion() {
+            return 0;
+        }
         @Override public void pushMutableCommandHistory(Command command) {
         }
         @Override public Optional<Command> popLastMutableCommand() {
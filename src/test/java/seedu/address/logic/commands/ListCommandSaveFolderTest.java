@@ -23,6 +23,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -81,6 +83,11 @@ public class ListCommandSaveFolderTest {
             return null;
         }
 
+        @Override
+        public List<FeatureStats> getFeatureStats() {
+            return null;
+        }
+
         // --- The rest are harmless stubs / no-ops ---
         @Override
         public ReadOnlyAddressBook getAddressBook() {
@@ -123,6 +130,11 @@ public class ListCommandSaveFolderTest {
             return false;
         }
 
+        @Override
+        public boolean hasPersonWithIdentity(PersonIdentity identity) {
+            return false;
+        }
+
         @Override
         public void deletePerson(Person target) {
         }
@@ -131,6 +143,10 @@ public class ListCommandSaveFolderTest {
         public void addPerson(Person person) {
         }
 
+        @Override
+        public void insertPerson(int index, Person person) {
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
         }
@@ -150,6 +166,11 @@ public class ListCommandSaveFolderTest {
             return FXCollections.observableArrayList();
         }
 
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
         @Override
         public void pushMutableCommandHistory(Command command) {
         }
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class MetricsCommandTest {
+
+    @Test
+    public void execute_showsRecordedMetrics() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordLatency(ListCommand.COMMAND_WORD, CommandMetrics.Phase.PARSE, 1000);
+        Model model = new ModelManager();
+
+        String expectedMessage = String.format(MetricsCommand.MESSAGE_SUCCESS, metrics.format());
+        assertCommandSuccess(new MetricsCommand(metrics), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        MetricsCommand metricsCommand = new MetricsCommand(metrics);
+
+        assertTrue(metricsCommand.equals(metricsCommand));
+        assertTrue(metricsCommand.equals(new MetricsCommand(metrics)));
+        assertTrue(new MetricsCommand().equals(new MetricsCommand()));
+        assertFalse(metricsCommand.equals(new MetricsCommand(new CommandMetrics())));
+        assertFalse(metricsCommand.equals(null));
+        assertFalse(metricsCommand.equals(1));
+    }
+}
@@ -25,6 +25,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -199,6 +200,11 @@ public class StatsCommandTest {
             return false;
         }
 
+        @Override
+        public boolean hasPersonWithIdentity(PersonIdentity identity) {
+            return false;
+        }
+
         @Override
         public void deletePerson(Person target) {
 
@@ -209,6 +215,11 @@ public class StatsCommandTest {
 
         }
 
+        @Override
+        public void insertPerson(int index, Person person) {
+
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
 
@@ -267,6 +278,11 @@ public class StatsCommandTest {
             return bizTags;
         }
 
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
         @Override
         public void pushMutableCommandHistory(Command command) {
         }
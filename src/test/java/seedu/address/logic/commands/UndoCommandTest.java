@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Stack;
 
@@ -16,7 +18,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ClientMatchesPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class UndoCommandTest {
@@ -47,6 +51,30 @@ public class UndoCommandTest {
         assertCommandSuccess(undoCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void undoCommand_afterFind_restoredPersonShown() throws CommandException {
+        FindCommand findAlice = new FindCommand(new ClientMatchesPredicate(List.of("Alice")));
+        Person alice = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        // undo of an edit
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withPhone("99999999").build());
+        editCommand.execute(model);
+        model.pushMutableCommandHistory(editCommand);
+        findAlice.execute(model);
+        new UndoCommand().execute(model);
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+
+        // undo of a delete
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
+        deleteCommand.execute(model);
+        model.pushMutableCommandHistory(deleteCommand);
+        findAlice.execute(model);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        new UndoCommand().execute(model);
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+    }
+
     @Test
     public void undoCommand_failure_noCommandToUndo() {
         UndoCommand undoCommand = new UndoCommand();
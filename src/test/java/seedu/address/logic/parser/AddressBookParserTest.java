@@ -25,6 +25,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MetricsCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -100,6 +101,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
     }
 
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
+    }
+
     @Test
     public void parseCommand_biz() throws Exception {
         assertTrue(parser.parseCommand(BizTagCommand.COMMAND_WORD + " f/Field t/Cat") instanceof BizTagCommand);
@@ -159,4 +166,36 @@ public class AddressBookParserTest {
     public void parseCommand_commandWordOnlyDash_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("-"));
     }
+
+    @Test
+    public void parseCommand_surroundingSpaces_ignored() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand("   delete 1  "));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("    "));
+    }
+
+    @Test
+    public void registerAlias_aliasParsedAsCommand() throws Exception {
+        parser.registerAlias("rm", DeleteCommand.COMMAND_WORD);
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand("rm 1"));
+
+        // registrations are kept by each parser
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> new AddressBookParser().parseCommand("rm 1"));
+    }
+
+    @Test
+    public void registerCommand_newCommandWord_parsedWithArguments() throws Exception {
+        parser.registerCommand("list-all", arguments -> new ListCommand());
+        assertTrue(parser.parseCommand("list-all") instanceof ListCommand);
+    }
+
+    @Test
+    public void registerCommand_invalidOrTakenCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand("", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.registerCommand("q!", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.registerCommand(ExitCommand.COMMAND_WORD, arguments -> new HelpCommand()));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerAlias("q", "quit"));
+    }
 }
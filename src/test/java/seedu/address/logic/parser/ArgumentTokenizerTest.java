@@ -136,6 +136,45 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix tSlash = new Prefix("t/");
+        Prefix atSlash = new Prefix("at/");
+        Prefix aSlash = new Prefix("a/");
+        Prefix a = new Prefix("a");
+
+        String argsString = "preamble at/ added t/plain a/ address at/at/x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tSlash, aSlash, atSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, atSlash, "added", "at/x");
+        assertArgumentPresent(argMultimap, tSlash, "plain");
+        assertArgumentPresent(argMultimap, aSlash, "address");
+
+        // the shorter prefix still matches where the longer one does not
+        argsString = "an apple";
+        argMultimap = ArgumentTokenizer.tokenize(argsString, atSlash, a);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, a, "n", "pple");
+    }
+
+    @Test
+    public void tokenize_prefixAtStartOrAfterAnyWhitespace() {
+        String argsString = "p/first\tp/second\np/third";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "first", "second", "third");
+    }
+
+    @Test
+    public void tokenize_nonAsciiPrefix() {
+        Prefix arrow = new Prefix("→");
+        String argsString = "preamble →value p/phone";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, arrow, pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, arrow, "value");
+        assertArgumentPresent(argMultimap, pSlash, "phone");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
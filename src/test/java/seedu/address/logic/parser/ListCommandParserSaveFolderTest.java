@@ -24,6 +24,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -72,6 +74,11 @@ public class ListCommandParserSaveFolderTest {
             return null;
         }
 
+        @Override
+        public List<FeatureStats> getFeatureStats() {
+            return null;
+        }
+
         // --- harmless stubs ---
         @Override public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -96,10 +103,15 @@ public class ListCommandParserSaveFolderTest {
         @Override public boolean hasPerson(Person person) {
             return false;
         }
+        @Override public boolean hasPersonWithIdentity(PersonIdentity identity) {
+            return false;
+        }
         @Override public void deletePerson(Person target) {
         }
         @Override public void addPerson(Person person) {
         }
+        @Override public void insertPerson(int index, Person person) {
+        }
         @Override public void setPerson(Person target, Person editedPerson) {
         }
         @Override public int getSize() {
@@ -111,6 +123,9 @@ public class ListCommandParserSaveFolderTest {
         @Override public ObservableList<Person> getPersonListCopy() {
             return FXCollections.observableArrayList();
         }
+        @Override public long getVersion() {
+            return 0;
+        }
         @Override public void pushMutableCommandHistory(Command command) {
         }
         @Override public Optional<Command> popLastMutableCommand() {
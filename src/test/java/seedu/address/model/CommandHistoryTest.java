@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+
+public class CommandHistoryTest {
+
+    @Test
+    public void constructor_nonPositiveBounds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(10, 0));
+    }
+
+    @Test
+    public void pushAndPop_lastInFirstOut_tracksFootprint() {
+        CommandHistory history = new CommandHistory();
+        Command first = new CommandStub(100);
+        Command second = new CommandStub(50);
+        history.pushUndo(first);
+        history.pushUndo(second);
+        assertEquals(150, history.getFootprint());
+
+        assertSame(second, history.popUndo().orElseThrow());
+        history.pushRedo(second);
+        assertEquals(150, history.getFootprint());
+
+        history.clearRedo();
+        assertEquals(100, history.getFootprint());
+        assertSame(first, history.popUndo().orElseThrow());
+        assertTrue(history.popUndo().isEmpty());
+        assertTrue(history.popRedo().isEmpty());
+        assertEquals(0, history.getFootprint());
+    }
+
+    @Test
+    public void pushUndo_exceedsDepth_evictsOldest() {
+        CommandHistory history = new CommandHistory(2, Long.MAX_VALUE);
+        Command oldest = new CommandStub(10);
+        history.pushUndo(oldest);
+        history.pushUndo(new CommandStub(10));
+        history.pushUndo(new CommandStub(10));
+
+        assertEquals(2, history.getUndoSize());
+        assertEquals(20, history.getFootprint());
+        history.popUndo();
+        assertNotSame(oldest, history.popUndo().orElseThrow());
+    }
+
+    @Test
+    public void push_exceedsByteBudget_evictsOldestButKeepsNewest() {
+        CommandHistory history = new CommandHistory(100, 250);
+        history.pushUndo(new CommandStub(100));
+        history.pushUndo(new CommandStub(100));
+        history.pushUndo(new CommandStub(100));
+        assertEquals(2, history.getUndoSize());
+        assertEquals(200, history.getFootprint());
+
+        // a single command over budget is still kept
+        Command huge = new CommandStub(1000);
+        history.pushUndo(huge);
+        assertEquals(1, history.getUndoSize());
+        assertSame(huge, history.popUndo().orElseThrow());
+    }
+
+    @Test
+    public void pushRedo_exceedsByteBudget_evictsUndoFirst() {
+        CommandHistory history = new CommandHistory(100, 250);
+        history.pushUndo(new CommandStub(100));
+        history.pushUndo(new CommandStub(100));
+        history.pushRedo(new CommandStub(100));
+
+        assertEquals(1, history.getUndoSize());
+        assertEquals(1, history.getRedoSize());
+        assertEquals(200, history.getFootprint());
+    }
+
+    /**
+     * A mutable command with a fixed footprint.
+     */
+    private static class CommandStub extends Command {
+        private final long footprint;
+
+        CommandStub(long footprint) {
+            this.footprint = footprint;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("");
+        }
+
+        @Override
+        public String man() {
+            return "";
+        }
+
+        @Override
+        public boolean isMutable() {
+            return true;
+        }
+
+        @Override
+        public long estimateFootprint() {
+            return footprint;
+        }
+    }
+}
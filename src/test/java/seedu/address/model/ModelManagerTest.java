@@ -32,6 +32,10 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.ClientMatchesPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.TagMatchesAllPredicate;
+import seedu.address.model.tag.FeatureStats;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -108,6 +112,33 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void updateFilteredPersonList_tagFilterThenInsertOrReplaceMatchingPerson_personShown() {
+        TagMatchesAllPredicate friends = new TagMatchesAllPredicate(Set.of(new Tag("friends")));
+        modelManager.addPerson(BENSON);
+
+        // as when a delete is undone
+        modelManager.updateFilteredPersonList(friends);
+        modelManager.insertPerson(0, ALICE);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // as when an edit is undone
+        modelManager.updateFilteredPersonList(friends);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("1 Other Street").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void hasPersonWithIdentity_followsAddAndDelete() {
+        PersonIdentity identity = new PersonIdentity("ALICE PAULINE", ALICE.getPhone().value);
+        assertFalse(modelManager.hasPersonWithIdentity(identity));
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.hasPersonWithIdentity(identity));
+        modelManager.deletePerson(ALICE);
+        assertFalse(modelManager.hasPersonWithIdentity(identity));
+    }
+
     @Test
     public void manipulate_bizTags_successful() throws CommandException {
         modelManager.addPerson(ALICE);
@@ -276,6 +307,27 @@ public class ModelManagerTest {
         assertNotEquals(1000, copyFolder.getCount());
     }
 
+    @Test
+    public void setPerson_tagFolderRemovedEarlier_recreatedWithFullCount() {
+        Person alice = new PersonBuilder().withName("Alice").withTags("friends").build();
+        Person bob = new PersonBuilder().withName("Bob").withTags("friends").build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(bob);
+        assertTrue(modelManager.removeTagFolderByName("FRIENDS"));
+
+        modelManager.setPerson(alice, new PersonBuilder(alice).withPhone("99999999").build());
+        assertEquals(2, getFolderCount("FRIENDS"));
+
+        modelManager.addPerson(new PersonBuilder().withName("Carl").withTags("friends").build());
+        assertEquals(3, getFolderCount("FRIENDS"));
+    }
+
+    private int getFolderCount(String name) {
+        return modelManager.getActiveTagFolders().stream()
+                .filter(folder -> folder.getName().equals(name))
+                .findFirst().orElseThrow().getCount();
+    }
+
     @Test
     void setActiveTagFolders_replacesListAndHandlesNull() {
         // Prepare a user-created folder list
@@ -298,6 +350,60 @@ public class ModelManagerTest {
     }
 
 
+    @Test
+    void personChanges_updateAffectedFolderCountsOnly() {
+        Person alice = new PersonBuilder(ALICE).withTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withTags("friends", "colleagues").build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(benson);
+        modelManager.addCompositeTagFolderFromUser(List.of("friends", "colleagues"));
+        assertEquals(2, folderCount("FRIENDS"));
+        assertEquals(1, folderCount("COLLEAGUES"));
+        assertEquals(1, folderCount("COLLEAGUES & FRIENDS"));
+
+        // adding a tag updates single and composite folders
+        Person editedAlice = new PersonBuilder(alice).withTags("friends", "colleagues").build();
+        modelManager.setPerson(alice, editedAlice);
+        assertEquals(2, folderCount("FRIENDS"));
+        assertEquals(2, folderCount("COLLEAGUES"));
+        assertEquals(2, folderCount("COLLEAGUES & FRIENDS"));
+
+        // deleting drops empty non-user folders but keeps user folders
+        modelManager.deletePerson(benson);
+        modelManager.deletePerson(editedAlice);
+        assertFalse(modelManager.hasTagFolder("FRIENDS"));
+        assertFalse(modelManager.hasTagFolder("COLLEAGUES"));
+        assertEquals(0, folderCount("COLLEAGUES & FRIENDS"));
+    }
+
+    @Test
+    public void getFeatureStats_reusedUntilPersonsOrFeaturesChange() {
+        Person alice = new PersonBuilder(ALICE).withTags("A").build();
+        modelManager.addPerson(alice);
+        modelManager.addBizTags(new FeatureTag("Plan"), Set.of(new Tag("A"), new Tag("B")));
+
+        List<FeatureStats> stats = modelManager.getFeatureStats();
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.get(0).getTotal());
+        assertTrue(stats == modelManager.getFeatureStats());
+
+        modelManager.addPerson(new PersonBuilder(BENSON).withTags("B").build());
+        List<FeatureStats> afterAdd = modelManager.getFeatureStats();
+        assertTrue(stats != afterAdd);
+        assertEquals(2, afterAdd.get(0).getTotal());
+
+        modelManager.removeBizFeature(new FeatureTag("Plan"));
+        assertTrue(modelManager.getFeatureStats().isEmpty());
+    }
+
+    private int folderCount(String name) {
+        return modelManager.getActiveTagFolders().stream()
+                .filter(f -> f.getName().equals(name))
+                .findFirst()
+                .orElseThrow()
+                .getCount();
+    }
+
     @Test
     void equals_returnsFalse_whenOtherIsNotModelManager() {
         ModelManager mm = new ModelManager(new AddressBook(), new UserPrefs());
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.ValidationConstants;
+
 public class NameTest {
 
 
@@ -130,5 +133,16 @@ public class NameTest {
         Name upper = new Name("David Lee"); // different by case, equals() is case-sensitive
         assertFalse(lower.equals(upper));
     }
-}
 
+    @Test
+    public void isValidName_agreesWithValidationRegex() {
+        String[] samples = {"", " ", "a", "Alice Pauline", " Alice", "Alice ", "O'Brien-Smith", "Dr. (Jo), a/b@c",
+            "R2D2", "Alice\tPauline", "Alice\n", "Zoë", "_", "a".repeat(Name.MAX_LENGTH)};
+        for (String sample : samples) {
+            boolean expected = sample.matches(ValidationConstants.PRINTABLE_ASCII_REGEX)
+                    && sample.matches(Name.VALIDATION_REGEX);
+            assertEquals(expected, Name.isValidName(sample), sample);
+        }
+    }
+
+}
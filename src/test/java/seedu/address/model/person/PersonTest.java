@@ -101,6 +101,22 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getSearchKeys_returnsLowerCasedFields() {
+        PersonSearchKeys keys = new PersonBuilder(ALICE).withEmail("Alice@Example.com").build().getSearchKeys();
+        assertEquals("alice pauline", keys.getName());
+        assertEquals("94351253", keys.getPhone());
+        assertEquals("alice@example.com", keys.getEmail());
+        assertTrue(keys.anyContains("pauline"));
+        assertFalse(keys.anyContains("Pauline"));
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        assertEquals(ALICE.hashCode(), ALICE.copy().hashCode());
+        assertEquals(ALICE.getIdentity(), new PersonBuilder(ALICE).withName("ALICE PAULINE").build().getIdentity());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = "Name: " + ALICE.getName() + "\nPhone: " + ALICE.getPhone()
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final SearchIndex searchIndex = uniquePersonList.getSearchIndex();
+
+    @Test
+    public void getCandidates_emptyList_returnsEmpty() {
+        assertTrue(searchIndex.getCandidates(List.of("alice")).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_matchesAcrossFields() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+
+        assertEquals(List.of(ALICE), searchIndex.getCandidates(List.of("pauline")));
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(searchIndex.getCandidates(List.of("meier"))));
+        assertEquals(List.of(BENSON), searchIndex.getCandidates(List.of("5432")));
+        assertEquals(List.of(CARL), searchIndex.getCandidates(List.of("heinz@")));
+        assertEquals(Set.of(ALICE, CARL), Set.copyOf(searchIndex.getCandidates(List.of("alice", "kurz"))));
+        assertTrue(searchIndex.getCandidates(List.of("zzz")).isEmpty());
+
+        // terms shorter than a trigram cannot be looked up
+        assertEquals(4, searchIndex.getCandidates(List.of("al")).size());
+    }
+
+    @Test
+    public void getCandidates_afterRemoveAndSetPerson_updatesPostings() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+
+        uniquePersonList.remove(BENSON);
+        assertTrue(searchIndex.getCandidates(List.of("benson")).isEmpty());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(searchIndex.getCandidates(List.of("pauline")).isEmpty());
+        assertEquals(List.of(renamedAlice), searchIndex.getCandidates(List.of("alicia")));
+    }
+
+    @Test
+    public void toIndexedPredicate_matchesOriginalPredicate() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        ClientMatchesPredicate original = new ClientMatchesPredicate(List.of("MEIER", "example.com"));
+        Predicate<Person> indexed = searchIndex.toIndexedPredicate(original.getSearchTerms(), original);
+        for (Person person : uniquePersonList) {
+            assertEquals(original.test(person), indexed.test(person));
+        }
+
+        ClientMatchesPredicate narrow = new ClientMatchesPredicate(List.of("meier"));
+        indexed = searchIndex.toIndexedPredicate(narrow.getSearchTerms(), narrow);
+        assertFalse(indexed.test(ALICE));
+        assertTrue(indexed.test(BENSON));
+
+        // after the index changes, newly added persons are still tested correctly
+        Person newPerson = new PersonBuilder().withName("Eve Meier").withPhone("81112222").build();
+        uniquePersonList.add(newPerson);
+        assertTrue(indexed.test(newPerson));
+        assertFalse(indexed.test(CARL));
+    }
+}
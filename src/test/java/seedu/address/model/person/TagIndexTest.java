@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final TagIndex tagIndex = uniquePersonList.getTagIndex();
+
+    @Test
+    public void countPersonsWithAllTags_emptyList_returnsZero() {
+        assertEquals(0, tagIndex.countPersonsWithAllTags(List.of("FRIENDS")));
+        assertEquals(0, tagIndex.countPersonsWithAllTags(List.of("FRIENDS", "OWESMONEY")));
+    }
+
+    @Test
+    public void countPersonsWithAllTags_singleAndCompositeTags_returnsMatches() {
+        uniquePersonList.add(ALICE); // friends
+        uniquePersonList.add(BENSON); // owesMoney, friends
+
+        assertEquals(2, tagIndex.countPersonsWithAllTags(List.of("FRIENDS")));
+        assertEquals(1, tagIndex.countPersonsWithAllTags(List.of("OWESMONEY")));
+        assertEquals(1, tagIndex.countPersonsWithAllTags(List.of("FRIENDS", "OWESMONEY")));
+        assertEquals(0, tagIndex.countPersonsWithAllTags(List.of("FRIENDS", "UNKNOWN")));
+        assertEquals(List.of(BENSON), tagIndex.getPersonsWithAllTags(List.of("OWESMONEY", "FRIENDS")));
+    }
+
+    @Test
+    public void countPersonsWithAllTags_afterRemoveAndSetPerson_updatesPostings() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(0, tagIndex.countPersonsWithAllTags(List.of("OWESMONEY")));
+        assertFalse(tagIndex.getTagNames().contains("OWESMONEY"));
+
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        uniquePersonList.setPerson(ALICE, retaggedAlice);
+        assertEquals(0, tagIndex.countPersonsWithAllTags(List.of("FRIENDS")));
+        assertEquals(List.of(retaggedAlice), tagIndex.getPersonsWithAllTags(List.of("COLLEAGUES")));
+        assertEquals(Set.of("COLLEAGUES"), tagIndex.getTagNames());
+    }
+
+    @Test
+    public void countPersonsWithAllTags_afterSetPersons_reindexesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(List.of(BENSON, BOB));
+
+        assertEquals(1, tagIndex.countPersonsWithAllTags(List.of("FRIENDS")));
+        assertEquals(1, tagIndex.countPersonsWithAllTags(List.of("HUSBAND", "FRIEND")));
+        assertEquals(Set.of("FRIENDS", "OWESMONEY", "FRIEND", "HUSBAND"), tagIndex.getTagNames());
+    }
+
+    @Test
+    public void toIndexedPredicate_matchesOriginalPredicate() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        TagMatchesAllPredicate original = new TagMatchesAllPredicate(Set.of(new Tag("owesMoney")));
+        Predicate<Person> indexed = tagIndex.toIndexedPredicate(original.getRequiredTagNames(), original);
+
+        assertFalse(indexed.test(ALICE));
+        assertTrue(indexed.test(BENSON));
+
+        // after the index changes, newly added persons are still tested correctly
+        Person newPerson = new PersonBuilder(BOB).withTags("owesMoney").build();
+        uniquePersonList.add(newPerson);
+        assertTrue(indexed.test(newPerson));
+        assertFalse(indexed.test(ALICE));
+    }
+}
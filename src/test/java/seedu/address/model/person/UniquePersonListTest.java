@@ -203,4 +203,59 @@ public class UniquePersonListTest {
     public void equal_differentTypes_returnsFalse() {
         assertFalse(uniquePersonList.equals(1));
     }
+
+    @Test
+    public void contains_personWithSameNameDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksNewIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(2, uniquePersonList.size());
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void containsIdentity_nameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsIdentity(new PersonIdentity("alice pauline", "94351253")));
+        assertFalse(uniquePersonList.containsIdentity(new PersonIdentity("Alice Pauline", "94351254")));
+    }
+
+    @Test
+    public void containsIdentity_afterSetPersons_keepsSharedIdentities() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.containsIdentity(PersonIdentity.of(ALICE)));
+        assertFalse(uniquePersonList.containsIdentity(PersonIdentity.of(BOB)));
+    }
 }
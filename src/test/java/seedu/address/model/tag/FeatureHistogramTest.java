@@ -0,0 +1,75 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.AddressBookGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class FeatureHistogramTest {
+
+    private static final Tag A = new Tag("A");
+    private static final Tag B = new Tag("B");
+    private static final Tag C = new Tag("C");
+
+    @Test
+    public void count_tagInSeveralFeatures_countedInEach() {
+        Map<FeatureTag, List<Tag>> bizTags = new LinkedHashMap<>();
+        bizTags.put(new FeatureTag("Plan"), List.of(A, B, C));
+        bizTags.put(new FeatureTag("Tier"), List.of(A));
+        List<Person> persons = List.of(
+                new PersonBuilder().withName("Amy").withTags("A", "B").build(),
+                new PersonBuilder().withName("Bob").withTags("A").build(),
+                new PersonBuilder().withName("Cat").withTags("friends").build());
+
+        List<FeatureStats> stats = FeatureHistogram.count(bizTags, persons);
+
+        assertEquals(2, stats.size());
+        assertEquals(new FeatureTag("Plan"), stats.get(0).getFeature());
+        assertEquals(List.of(2, 1, 0), countsOf(stats.get(0)));
+        assertEquals(List.of(A), stats.get(0).getMaxTags());
+        assertEquals(List.of(C), stats.get(0).getMinTags());
+        assertEquals(List.of(2), countsOf(stats.get(1)));
+    }
+
+    @Test
+    public void count_noFeatures_empty() {
+        assertEquals(List.of(), FeatureHistogram.count(Map.of(), List.of(new PersonBuilder().build())));
+    }
+
+    @Test
+    public void countSlots_largeList_sameAsCountingEachTag() {
+        AddressBookGenerator generator = new AddressBookGenerator(3 * FeatureHistogram.PARALLEL_THRESHOLD)
+                .withTagCount(12);
+        List<Tag> tags = generator.getTags();
+        List<Person> persons = generator.generatePersons();
+        Map<FeatureTag, List<Tag>> bizTags = new LinkedHashMap<>();
+        bizTags.put(new FeatureTag("Plan"), tags.subList(0, 6));
+        bizTags.put(new FeatureTag("Region"), tags.subList(4, 12));
+
+        int[] expected = new int[14];
+        int slot = 0;
+        for (List<Tag> featureTags : bizTags.values()) {
+            for (Tag tag : featureTags) {
+                expected[slot++] = (int) persons.stream().filter(p -> p.getTags().contains(tag)).count();
+            }
+        }
+
+        FeatureHistogram histogram = new FeatureHistogram(bizTags);
+        assertArrayEquals(expected, histogram.countSlots(persons));
+        assertArrayEquals(expected, histogram.countSlots(new LinkedList<>(persons)));
+    }
+
+    private static List<Integer> countsOf(FeatureStats stats) {
+        return IntStream.range(0, stats.getTags().size()).map(stats::getCount).boxed().toList();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class FeatureStatsTest {
+
+    private static final FeatureTag PLAN = new FeatureTag("Plan");
+    private static final Tag A = new Tag("A");
+    private static final Tag B = new Tag("B");
+    private static final Tag C = new Tag("C");
+
+    @Test
+    public void constructor_mismatchedCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FeatureStats(PLAN, List.of(A, B), new int[1], 2));
+    }
+
+    @Test
+    public void constructor_ties_keepsAllTiedTags() {
+        FeatureStats stats = new FeatureStats(PLAN, List.of(A, B, C), new int[] {2, 0, 2}, 4);
+
+        assertEquals(4, stats.getTotal());
+        assertEquals(4f / 3, stats.getMean());
+        assertEquals(2, stats.getMaxCount());
+        assertEquals(List.of(A, C), stats.getMaxTags());
+        assertEquals(0, stats.getMinCount());
+        assertEquals(List.of(B), stats.getMinTags());
+    }
+
+    @Test
+    public void constructor_noTags_meanUnavailable() {
+        FeatureStats stats = new FeatureStats(PLAN, List.of(), new int[0], 3);
+
+        assertEquals(-1, stats.getMean());
+        assertEquals(List.of(), stats.getMaxTags());
+        assertEquals(3, stats.getMinCount());
+    }
+}
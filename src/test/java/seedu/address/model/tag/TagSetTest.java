@@ -0,0 +1,78 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_duplicateTags_keepsDistinctCanonicalTags() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends"), new Tag("FRIENDS"), new Tag("colleagues")));
+        assertEquals(2, tags.size());
+        assertEquals(Set.of(new Tag("friends"), new Tag("colleagues")), tags);
+        for (Tag tag : tags) {
+            assertSame(Tag.of(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void containsAll_tagSetAndOtherCollections_matchesHashSet() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends"), new Tag("colleagues"), new Tag("owesMoney")));
+        TagSet subset = TagSet.of(List.of(new Tag("colleagues"), new Tag("owesMoney")));
+        TagSet other = TagSet.of(List.of(new Tag("colleagues"), new Tag("neighbours")));
+
+        assertTrue(tags.containsAll(subset));
+        assertFalse(tags.containsAll(other));
+        assertFalse(subset.containsAll(tags));
+        assertTrue(tags.containsAll(new HashSet<>(subset)));
+        assertTrue(tags.contains(new Tag("OWESMONEY")));
+        assertFalse(tags.contains("FRIENDS"));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsHashSet() {
+        Set<Tag> hashSet = Set.of(new Tag("friends"), new Tag("colleagues"));
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+    }
+
+    @Test
+    public void intern_sameName_returnsSameInstanceWithSameId() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of("friends"));
+        assertSame(tag, Tag.of("FRIENDS"));
+        assertEquals(tag.getId(), new Tag("Friends").getId());
+        assertSame(tag, TagRegistry.getInstance().get(tag.getId()));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void lookup_doesNotRegisterNewNames() {
+        Tag tag = Tag.of("colleagues");
+        assertSame(tag, TagRegistry.getInstance().lookup(" Colleagues ").get());
+
+        int registered = TagRegistry.getInstance().size();
+        assertTrue(TagRegistry.getInstance().lookup("never-used-before").isEmpty());
+        assertTrue(TagRegistry.getInstance().lookup("not valid").isEmpty());
+        assertEquals(registered, TagRegistry.getInstance().size());
+    }
+}
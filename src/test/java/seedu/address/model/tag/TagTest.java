@@ -7,6 +7,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.ValidationConstants;
+
 public class TagTest {
 
     @Test
@@ -76,5 +78,15 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(""));
         assertThrows(IllegalArgumentException.class, () -> new Tag("!oops"));
     }
-}
 
+    @Test
+    public void isValidTagName_agreesWithValidationRegex() {
+        String[] samples = {"", "-", "a", "a-", "-a", "a-b", "a--b", "A1", "a b", "a_b", "a\n", "é", "abc-123-XYZ"};
+        for (String sample : samples) {
+            boolean expected = sample.matches(ValidationConstants.PRINTABLE_ASCII_REGEX)
+                    && sample.matches(Tag.VALIDATION_REGEX);
+            assertEquals(expected, Tag.isValidTagName(sample), sample);
+        }
+    }
+
+}
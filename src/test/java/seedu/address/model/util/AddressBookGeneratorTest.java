@@ -0,0 +1,85 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class AddressBookGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookGenerator(AddressBookGenerator.MAX_SIZE + 1));
+    }
+
+    @Test
+    public void withTagsPerPerson_moreThanTagCount_throwsIllegalArgumentException() {
+        AddressBookGenerator generator = new AddressBookGenerator(1).withTagCount(2).withTagsPerPerson(3, 3);
+        assertThrows(IllegalArgumentException.class, generator::generatePersons);
+    }
+
+    @Test
+    public void generatePersons_tagsPerPerson_withinBounds() {
+        List<Person> persons = new AddressBookGenerator(500).withTagsPerPerson(1, 4).generatePersons();
+
+        assertEquals(500, persons.size());
+        assertTrue(persons.stream().allMatch(p -> p.getTags().size() >= 1 && p.getTags().size() <= 4));
+    }
+
+    @Test
+    public void generatePersons_sameSeed_sameValues() {
+        assertEquals(new AddressBookGenerator(200).withSeed(7).generatePersons(),
+                new AddressBookGenerator(200).withSeed(7).generatePersons());
+        assertNotEquals(new AddressBookGenerator(200).withSeed(7).generatePersons(),
+                new AddressBookGenerator(200).withSeed(8).generatePersons());
+    }
+
+    @Test
+    public void generatePersons_skewed_favoursTopRankedTags() {
+        AddressBookGenerator generator = new AddressBookGenerator(2000).withTagsPerPerson(1, 1).withSkew(1.5);
+        List<Tag> tags = generator.getTags();
+        List<Person> persons = generator.generatePersons();
+
+        long topRanked = persons.stream().filter(p -> p.getTags().contains(tags.get(0))).count();
+        long bottomRanked = persons.stream().filter(p -> p.getTags().contains(tags.get(tags.size() - 1))).count();
+        assertTrue(topRanked > 10 * Math.max(1, bottomRanked));
+    }
+
+    @Test
+    public void generateExtraPerson_distinctFromGeneratedPersons() {
+        AddressBookGenerator generator = new AddressBookGenerator(100);
+        AddressBook addressBook = generator.generate();
+
+        Person first = generator.generateExtraPerson(0);
+        Person second = generator.generateExtraPerson(1);
+        assertFalse(addressBook.hasPerson(first));
+        assertFalse(addressBook.hasPerson(second));
+        assertFalse(first.isSamePerson(second));
+        assertEquals(first, generator.generateExtraPerson(0));
+    }
+
+    @Test
+    public void generate_saveAndRead_sameAddressBook() throws Exception {
+        AddressBook original = new AddressBookGenerator(300).generate();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("generated.json"));
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+}
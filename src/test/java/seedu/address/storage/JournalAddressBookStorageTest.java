@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_ignoresRecord() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"insert\",\"ind",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedAppend_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Path journal = storage.getJournalFilePath();
+        byte[] journalBytes = Files.readAllBytes(journal);
+
+        // the journal cannot be opened, so the append fails
+        Files.delete(journal);
+        Files.createDirectory(journal);
+        original.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+
+        // the failed write left a partial record behind
+        Files.delete(journal);
+        Files.write(journal, journalBytes);
+        Files.writeString(journal, "{\"op\":\"insert\",\"ind", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(journal).size());
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced behind the journal's back
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.addPerson(IDA);
+        Path replacementPath = testFolder.resolve("replacement.json");
+        new JsonAddressBookStorage(replacementPath).saveAddressBook(replacement);
+        Files.copy(replacementPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(replacement, readBack(filePath));
+    }
+
+    @Test
+    public void switchToJsonStorage_uncompactedJournal_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+
+        // the JSON file takes over the journal's changes, so switching back does not replay them again
+        original.removePerson(HOON);
+        jsonStorage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedOrCleared_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook reversed = new AddressBook();
+        int size = original.getPersonList().size();
+        for (int i = size - 1; i >= 0; i--) {
+            reversed.addPerson(original.getPersonList().get(i));
+        }
+        storage.saveAddressBook(reversed);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(reversed, readBack(filePath));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), readBack(filePath));
+    }
+
+    private ReadOnlyAddressBook readBack(Path filePath) throws Exception {
+        return new JournalAddressBookStorage(filePath).readAddressBook().get();
+    }
+}
@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +50,33 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        AddressBook expected = new AddressBook();
+        for (int i = 0; i < 2 * JsonSerializableAddressBook.PARALLEL_THRESHOLD; i++) {
+            Person person = new PersonBuilder().withPhone(String.valueOf(90000000 + i)).build();
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+            expected.addPerson(person);
+        }
+
+        assertEquals(expected, new JsonSerializableAddressBook(adaptedPersons).toModelType());
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_reportsAllInvalidPersons() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        adaptedPersons.add(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        adaptedPersons.add(new JsonAdaptedPerson("R4chel", "94351253", "a@b.com", "Street", List.of()));
+        adaptedPersons.add(new JsonAdaptedPerson(TypicalPersons.BENSON));
+        adaptedPersons.add(new JsonAdaptedPerson("Rachel", "+651234", "a@b.com", "Street", List.of()));
+
+        String personFormat = JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_FORMAT;
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSONS, 2, 2)
+                + String.format(personFormat, 1, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(personFormat, 3, Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage,
+                new JsonSerializableAddressBook(adaptedPersons)::toModelType);
+    }
+
 }
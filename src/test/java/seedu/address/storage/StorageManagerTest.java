@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +62,19 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_journalStorage_appendsToJournal() throws Exception {
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(getTempFilePath("journaled"));
+        StorageManager journaled = new StorageManager(journalStorage, new JsonUserPrefsStorage(getTempFilePath("p")));
+        AddressBook original = getTypicalAddressBook();
+        journaled.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaled.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(journalStorage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(journaled.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
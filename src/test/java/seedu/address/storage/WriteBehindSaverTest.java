@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AtomicInteger saveCount = new AtomicInteger();
+
+    private StorageManager getStorage(IOException failure) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                if (failure != null) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_coalescedIntoLatestSnapshot() throws Exception {
+        StorageManager storage = getStorage(null);
+        WriteBehindSaver saver = WriteBehindSaver.background(storage, 10_000);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook, new UserPrefs());
+        addressBook.removePerson(ALICE);
+        saver.requestSave(addressBook, new UserPrefs());
+        saver.close();
+
+        assertEquals(1, saveCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().orElseThrow()));
+    }
+
+    @Test
+    public void requestSave_writeThrough_savesImmediately() throws Exception {
+        StorageManager storage = getStorage(null);
+        WriteBehindSaver saver = WriteBehindSaver.writeThrough(storage);
+
+        saver.requestSave(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(1, saveCount.get());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().orElseThrow()));
+    }
+
+    @Test
+    public void flush_failedWrite_throwsOnce() throws Exception {
+        WriteBehindSaver saver = WriteBehindSaver.background(getStorage(new IOException("disk full")), 10_000);
+        saver.requestSave(getTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(IOException.class, "disk full", saver::flush);
+        saver.close(); // failure already reported
+        assertEquals(1, saveCount.get());
+    }
+}
@@ -2,12 +2,16 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.PersonIdentity;
+
 public class AddPreviewBuilderTest {
 
     @Test
@@ -129,4 +133,47 @@ public class AddPreviewBuilderTest {
         assertFalse(previews.get(4).isValid());
         assertTrue(previews.get(4).getInvalidTagIndices().contains(14));
     }
+
+    @Test
+    public void buildNextPreview_oneFieldChanged_otherPreviewsReused() {
+        AddPreviewBuilder builder = new AddPreviewBuilder();
+        List<FieldPreview> first = builder.buildNextPreview("add n/Alice p/9123 e/alice@example.com t/friend");
+        List<FieldPreview> second = builder.buildNextPreview("add n/Alice p/91234 e/alice@example.com t/friend");
+
+        assertEquals("91234", second.get(1).getValue());
+        assertNotSame(first.get(1), second.get(1));
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(2), second.get(2));
+        assertSame(first.get(3), second.get(3));
+        assertSame(first.get(4), second.get(4));
+
+        // a field becoming a duplicate is rebuilt even though its last value is unchanged
+        List<FieldPreview> third = builder.buildNextPreview(
+                "add n/Alice p/91234 e/alice@example.com t/friend n/Alice");
+        assertFalse(third.get(0).isValid());
+        assertSame(second.get(4), third.get(4));
+    }
+
+    @Test
+    public void buildNextPreview_existingClient_nameAndPhoneInvalid() {
+        PersonIdentity existing = new PersonIdentity("Alice", "91234567");
+        AddPreviewBuilder builder = new AddPreviewBuilder(existing::equals);
+
+        List<FieldPreview> previews = builder.buildNextPreview("add n/alice p/91234567 e/alice@example.com");
+        assertFalse(previews.get(0).isValid());
+        assertEquals("alice" + AddPreviewBuilder.MESSAGE_EXISTING_CLIENT, previews.get(0).getValue());
+        assertFalse(previews.get(1).isValid());
+        assertEquals("91234567" + AddPreviewBuilder.MESSAGE_EXISTING_CLIENT, previews.get(1).getValue());
+        assertTrue(previews.get(2).isValid());
+
+        // another phone number makes it a new client
+        previews = builder.buildNextPreview("add n/alice p/912345678 e/alice@example.com");
+        assertTrue(previews.get(0).isValid());
+        assertEquals("alice", previews.get(0).getValue());
+        assertTrue(previews.get(1).isValid());
+
+        // the static preview does not check for existing clients
+        previews = AddPreviewBuilder.buildPreview("add n/Alice p/91234567");
+        assertTrue(previews.get(0).isValid());
+    }
 }
@@ -2,12 +2,15 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +79,31 @@ public class EditPreviewBuilderTest {
         assertFalse(previews.get(0).isValid());
     }
 
+    @Test
+    public void findTarget_validOrInvalidIndex() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        List<Person> personList = List.of(alice, bob);
+
+        assertEquals(Optional.of(bob), EditPreviewBuilder.findTarget("edit 2 n/Bobby", personList));
+        assertEquals(Optional.empty(), EditPreviewBuilder.findTarget("edit 3 n/Bobby", personList));
+        assertEquals(Optional.empty(), EditPreviewBuilder.findTarget("edit x", personList));
+
+        // the previews built from the target alone match those built from the whole list
+        assertEquals(describe(EditPreviewBuilder.buildPreview("edit 2 n/Bobby", personList)),
+                describe(new EditPreviewBuilder().buildNextPreview("edit 2 n/Bobby", Optional.of(bob))));
+        assertEquals(describe(EditPreviewBuilder.buildPreview("edit 3", personList)),
+                describe(new EditPreviewBuilder().buildNextPreview("edit 3", Optional.empty())));
+    }
+
+    private static List<String> describe(List<FieldPreview> previews) {
+        List<String> descriptions = new ArrayList<>();
+        for (FieldPreview preview : previews) {
+            descriptions.add(preview.getLabel() + " " + preview.getValue() + " " + preview.isValid());
+        }
+        return descriptions;
+    }
+
     @Test
     public void buildPreview_duplicateFields_invalidPreview() {
         List<Person> personList = Arrays.asList(
@@ -515,4 +543,23 @@ public class EditPreviewBuilderTest {
         assertTrue(tagPreview.isValid());
     }
 
+    @Test
+    public void buildNextPreview_oneFieldChanged_otherPreviewsReused() {
+        List<Person> personList = List.of(new PersonBuilder().withName("Alice").build(),
+                new PersonBuilder().withName("Bob").build());
+        EditPreviewBuilder builder = new EditPreviewBuilder();
+        List<FieldPreview> first = builder.buildNextPreview("edit 1 n/Carl t/friend", personList);
+        List<FieldPreview> second = builder.buildNextPreview("edit 1 n/Carla t/friend", personList);
+
+        assertEquals("Alice -> Carla", second.get(0).getValue());
+        assertNotSame(first.get(0), second.get(0));
+        for (int i = 1; i < first.size(); i++) {
+            assertSame(first.get(i), second.get(i));
+        }
+
+        // previews of another person are rebuilt even where the values typed are unchanged
+        List<FieldPreview> third = builder.buildNextPreview("edit 2 n/Carla t/friend", personList);
+        assertEquals("Bob -> Carla", third.get(0).getValue());
+        assertNotSame(second.get(4), third.get(4));
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LivePreviewPipelineTest {
+
+    private static final List<FieldPreview> FIRST = List.of(new FieldPreview("Name (n/):", "Alice", true));
+    private static final List<FieldPreview> SECOND = List.of(new FieldPreview("Name (n/):", "Bob", true));
+
+    private final BlockingQueue<List<FieldPreview>> published = new LinkedBlockingQueue<>();
+    private LivePreviewPipeline pipeline;
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void request_computedInBackground_published() throws Exception {
+        pipeline = new LivePreviewPipeline(Runnable::run, 0, published::add);
+        pipeline.request(() -> FIRST);
+        assertEquals(FIRST, published.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void request_supersededWhileComputing_onlyLatestPublished() throws Exception {
+        pipeline = new LivePreviewPipeline(Runnable::run, 0, published::add);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        pipeline.request(() -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            return FIRST;
+        });
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        pipeline.request(() -> SECOND);
+        releaseFirst.countDown();
+
+        assertEquals(SECOND, published.poll(5, TimeUnit.SECONDS));
+        assertNull(published.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void request_supersededWithinDebounce_neverComputed() throws Exception {
+        pipeline = new LivePreviewPipeline(Runnable::run, TimeUnit.HOURS.toMillis(1), published::add);
+        AtomicInteger computed = new AtomicInteger();
+        pipeline.request(() -> {
+            computed.incrementAndGet();
+            return FIRST;
+        });
+        assertTrue(pipeline.hasPendingRequest());
+        pipeline.request(() -> {
+            computed.incrementAndGet();
+            return FIRST;
+        });
+
+        pipeline.publishNow(SECOND);
+        assertEquals(SECOND, published.poll());
+        assertFalse(pipeline.hasPendingRequest());
+        assertEquals(0, computed.get());
+    }
+
+    @Test
+    public void request_previewThrows_nothingPublished() throws Exception {
+        pipeline = new LivePreviewPipeline(Runnable::run, 0, published::add);
+        pipeline.request(() -> {
+            throw new IllegalStateException("preview failed");
+        });
+        assertNull(published.poll(100, TimeUnit.MILLISECONDS));
+
+        // the background thread survives a failed preview
+        pipeline.request(() -> FIRST);
+        assertEquals(FIRST, published.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void request_afterShutdown_ignored() throws Exception {
+        pipeline = new LivePreviewPipeline(Runnable::run, 0, published::add);
+        pipeline.shutdown();
+        pipeline.request(() -> FIRST);
+        assertFalse(pipeline.hasPendingRequest());
+        assertNull(published.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}